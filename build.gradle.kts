@@ -1,6 +1,9 @@
+import java.io.DataOutputStream
+
 plugins {
     id("java")
     `maven-publish`
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.github.xaviercanadas"
@@ -17,8 +20,11 @@ java {
 }
 
 dependencies {
+    // Optional: only needed by applications that use MicrometerSlugMetrics
+    compileOnly("io.micrometer:micrometer-core:1.12.5")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("io.micrometer:micrometer-core:1.12.5")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -30,6 +36,69 @@ publishing {
     }
 }
 
+val packVocabulary by tasks.registering {
+    description = "Packs the word lists in src/main/vocabulary into the binary words.bin resource."
+    val sourceDir = layout.projectDirectory.dir("src/main/vocabulary")
+    val outputDir = layout.buildDirectory.dir("generated/resources/vocabulary")
+    inputs.dir(sourceDir)
+    outputs.dir(outputDir)
+
+    doLast {
+        val files = linkedMapOf("NOUN" to "nouns.txt", "ADJECTIVE" to "adjectives.txt")
+        val lists = files.mapValues { (_, fileName) ->
+            sourceDir.file(fileName).asFile.readLines()
+                .map { it.trim() }
+                .filter { it.isNotEmpty() && !it.startsWith("#") }
+                .map { line ->
+                    val (word, categories) = line.split(",", limit = 2)
+                    require(word.length in 1..255 && word.all { it.code < 128 }) { "Invalid word: $word" }
+                    word to categories.split("|").map { it.trim() }
+                }
+        }
+        val categories = lists.values.flatten().flatMap { it.second }.distinct()
+        require(categories.size <= 64) { "At most 64 categories can be packed" }
+
+        // Layout: header, category names, then per part of speech a string table,
+        // the length of every word and a category bitmask per word
+        val target = outputDir.get().file("com/github/xaviercanadas/randomwordslugs/data/words.bin").asFile
+        target.parentFile.mkdirs()
+        DataOutputStream(target.outputStream().buffered()).use { out ->
+            out.writeInt(0x52575331)
+            out.writeShort(1)
+            out.writeByte(categories.size)
+            categories.forEach { out.writeUTF(it) }
+            out.writeByte(lists.size)
+            lists.forEach { (partOfSpeech, words) ->
+                out.writeUTF(partOfSpeech)
+                out.writeInt(words.size)
+                val table = words.joinToString("") { it.first }.toByteArray(Charsets.US_ASCII)
+                out.writeInt(table.size)
+                out.write(table)
+                words.forEach { out.writeByte(it.first.length) }
+                words.forEach { (_, wordCategories) ->
+                    out.writeLong(wordCategories.fold(0L) { mask, category ->
+                        mask or (1L shl categories.indexOf(category))
+                    })
+                }
+            }
+        }
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir(packVocabulary)
+    }
+}
+
 tasks.test {
     useJUnitPlatform()
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    profilers.addAll("gc", "stack")
+    resultFormat.set("JSON")
+    // One results file per release, so runs can be diffed before rolling out an upgrade
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ * WordDatabaseBenchmark.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package data;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for candidate lookups in WordDatabase.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordDatabaseBenchmark {
+
+    private WordDatabase database;
+    private List<Category> singleCategory;
+    private List<Category> multipleCategories;
+
+    @Setup
+    public void setUp() {
+        database = new WordDatabase();
+        singleCategory = Collections.singletonList(Category.ANIMALS);
+        multipleCategories = Arrays.asList(Category.ANIMALS, Category.FOOD, Category.PLACE);
+    }
+
+    @Benchmark
+    public List<String> getWordsUnfiltered() {
+        return database.getWordsByCategory(PartsOfSpeech.NOUN, null);
+    }
+
+    @Benchmark
+    public List<String> getWordsSingleCategory() {
+        return database.getWordsByCategory(PartsOfSpeech.NOUN, singleCategory);
+    }
+
+    @Benchmark
+    public List<String> getWordsMultipleCategories() {
+        return database.getWordsByCategory(PartsOfSpeech.NOUN, multipleCategories);
+    }
+
+    @Benchmark
+    public int getWordCountMultipleCategories() {
+        return database.getWordCount(PartsOfSpeech.NOUN, multipleCategories);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * WordDatabaseStartupBenchmark.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package data;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of the word database.
+ * {@code coldStart} runs once per fresh JVM, so it includes reading the packed vocabulary;
+ * {@code warmConstruction} measures further instances, which reuse the shared vocabulary.
+ * The GC profiler's {@code gc.alloc.rate.norm} shows the heap allocated by each.
+ */
+@State(Scope.Benchmark)
+public class WordDatabaseStartupBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public WordDatabase coldStart() {
+        return new WordDatabase();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public WordDatabase warmConstruction() {
+        return new WordDatabase();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SlugBatchBenchmark.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package generator;
+
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares batch generation against a loop of single generate() calls.
+ * Scores are per batch, so divide by the batch size for the cost per slug.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugBatchBenchmark {
+
+    @Param({"100", "10000"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean filtered;
+
+    private SlugGenerator generator;
+    private SlugOptions options;
+    private String[] target;
+
+    @Setup
+    public void setUp() {
+        generator = new SlugGenerator();
+        SlugOptions.Builder builder = SlugOptions.builder();
+        if (filtered) {
+            builder.withNounCategories(Category.ANIMALS, Category.FOOD)
+                    .withAdjectiveCategories(Category.COLOR, Category.SIZE);
+        }
+        options = builder.build();
+        target = new String[batchSize];
+    }
+
+    @Benchmark
+    public String[] loopOfGenerate() {
+        for (int i = 0; i < batchSize; i++) {
+            target[i] = generator.generate(options);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public String[] generateBatch() {
+        generator.generateBatch(target, 0, batchSize, options);
+        return target;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SlugGeneratorContentionBenchmark.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package generator;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.RandomSource;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Throughput of one SlugGenerator shared by many threads, per random source.
+ * Compare the single-threaded and all-threads scores: per-thread sources should scale
+ * with cores, while the shared {@code java.util.Random} collapses on its seed CAS.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugGeneratorContentionBenchmark {
+
+    @Param({"threadLocal", "split", "sharedRandom"})
+    public String source;
+
+    private SlugGenerator generator;
+
+    @Setup
+    public void setUp() {
+        RandomSource randomSource = switch (source) {
+            case "threadLocal" -> RandomSource.threadLocal();
+            case "split" -> RandomSource.split(RandomGenerator.SplittableGenerator.of("L64X128MixRandom"));
+            case "sharedRandom" -> RandomSource.shared(new Random());
+            default -> throw new IllegalArgumentException("Unknown source: " + source);
+        };
+        generator = new SlugGenerator(new WordDatabase(), randomSource);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String allThreads() {
+        return generator.generate();
+    }
+}
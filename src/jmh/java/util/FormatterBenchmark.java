@@ -0,0 +1,64 @@
+/*
+ * FormatterBenchmark.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package util;
+
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+import com.github.xaviercanadas.randomwordslugs.util.Formatter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Formatter across every case and 1 to 10 words, converting case inline
+ * or copying precomputed word forms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterBenchmark {
+    private static final String[] SAMPLE_WORDS = {
+            "happy", "little", "brave", "blue", "clever", "fast", "quiet", "wooden", "yellow", "elephant"
+    };
+
+    @Param
+    public Case format;
+
+    @Param({"1", "2", "3", "5", "10"})
+    public int numberOfWords;
+
+    private List<String> words;
+    private WordForms[] forms;
+
+    @Setup
+    public void setUp() {
+        words = Arrays.asList(Arrays.copyOf(SAMPLE_WORDS, numberOfWords));
+        forms = words.stream().map(WordForms::of).toArray(WordForms[]::new);
+    }
+
+    @Benchmark
+    public String format() {
+        return Formatter.format(words, format);
+    }
+
+    @Benchmark
+    public String formatPrecomputed() {
+        StringBuilder slug = new StringBuilder(16 * forms.length);
+        for (int i = 0; i < forms.length; i++) {
+            Formatter.appendWord(slug, forms[i], i, format);
+        }
+        return slug.toString();
+    }
+}
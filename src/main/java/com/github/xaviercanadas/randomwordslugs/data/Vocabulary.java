@@ -0,0 +1,427 @@
+/*
+ * Vocabulary.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.data;
+
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.Word;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Immutable word lists stored as compact parallel arrays: the words of each part of speech,
+ * one category bitmask per word, where bit {@code n} stands for the category of ordinal {@code n},
+ * and optionally one selection weight per word.
+ * <p>
+ * The built-in vocabulary is read once from the packed {@code words.bin} resource, generated at build
+ * time from {@code src/main/vocabulary}, and shared by every {@link WordDatabase}. Custom vocabularies
+ * are memory-mapped from text files, see {@link #map(Path)}. Every built-in word has the default weight.
+ * <p>
+ * Words are kept as encoded bytes and only decoded into strings when first read, see {@link WordList}.
+ */
+final class Vocabulary {
+    private static final String RESOURCE = "words.bin";
+    private static final int MAGIC = 0x52575331; // "RWS1"
+    private static final int VERSION = 1;
+
+    private static final long[] NO_MASKS = new long[0];
+    static final WordList NO_WORDS = new WordList(ByteBuffer.allocate(0), new int[0], new int[0], 0, NO_MASKS, null);
+
+    private static final byte COMMENT = '#';
+    private static final byte CATEGORY_SEPARATOR = '|';
+
+    private final Map<PartsOfSpeech, WordList> words;
+    private final Map<PartsOfSpeech, long[]> categoryMasks;
+    private final boolean weighted;
+    private volatile Map<PartsOfSpeech, List<Word>> wordObjects;
+
+    private Vocabulary(Map<PartsOfSpeech, WordList> words, Map<PartsOfSpeech, long[]> categoryMasks) {
+        this.words = words;
+        this.categoryMasks = categoryMasks;
+        this.weighted = words.values().stream().anyMatch(WordList::hasWeights);
+    }
+
+    /**
+     * Returns the built-in vocabulary, loading it on first use.
+     */
+    static Vocabulary builtIn() {
+        return BuiltIn.INSTANCE;
+    }
+
+    /**
+     * Words of a part of speech, as a shared unmodifiable list.
+     */
+    WordList words(PartsOfSpeech partOfSpeech) {
+        return words.getOrDefault(partOfSpeech, NO_WORDS);
+    }
+
+    /**
+     * Category bitmask of every word of a part of speech. The array is shared and must not be modified.
+     */
+    long[] categoryMasks(PartsOfSpeech partOfSpeech) {
+        return categoryMasks.getOrDefault(partOfSpeech, NO_MASKS);
+    }
+
+    /**
+     * Tells whether any word has a weight other than {@link Word#DEFAULT_WEIGHT}.
+     */
+    boolean hasWeights() {
+        return weighted;
+    }
+
+    /**
+     * Words of a part of speech as {@link Word} objects, built on first request.
+     */
+    List<Word> wordObjects(PartsOfSpeech partOfSpeech) {
+        Map<PartsOfSpeech, List<Word>> objects = wordObjects;
+        if (objects == null) {
+            objects = new EnumMap<>(PartsOfSpeech.class);
+            for (PartsOfSpeech key : words.keySet()) {
+                objects.put(key, toWordObjects(words(key), categoryMasks(key)));
+            }
+            wordObjects = objects;
+        }
+        return objects.getOrDefault(partOfSpeech, Collections.emptyList());
+    }
+
+    /**
+     * Reads a packed vocabulary: a header, the category names, then for each part of speech
+     * a string table, the length of every word and a category bitmask per word.
+     */
+    static Vocabulary read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a packed vocabulary");
+        }
+        int version = data.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported vocabulary version " + version);
+        }
+
+        // Bit n of a packed mask refers to the n-th category name, mapped here to the enum ordinal
+        long[] categoryBits = new long[data.readUnsignedByte()];
+        for (int i = 0; i < categoryBits.length; i++) {
+            categoryBits[i] = 1L << Category.valueOf(data.readUTF()).ordinal();
+        }
+
+        Map<PartsOfSpeech, WordList> words = new EnumMap<>(PartsOfSpeech.class);
+        Map<PartsOfSpeech, long[]> categoryMasks = new EnumMap<>(PartsOfSpeech.class);
+
+        int partsOfSpeech = data.readUnsignedByte();
+        for (int p = 0; p < partsOfSpeech; p++) {
+            PartsOfSpeech partOfSpeech = PartsOfSpeech.valueOf(data.readUTF());
+            int count = data.readInt();
+
+            byte[] table = new byte[data.readInt()];
+            data.readFully(table);
+
+            int[] starts = new int[count];
+            int[] lengths = new int[count];
+            for (int i = 0, offset = 0; i < count; i++) {
+                starts[i] = offset;
+                lengths[i] = data.readUnsignedByte();
+                offset += lengths[i];
+            }
+
+            long[] masks = new long[count];
+            for (int i = 0; i < count; i++) {
+                long packed = data.readLong();
+                long mask = 0L;
+                for (int bit = 0; bit < categoryBits.length; bit++) {
+                    if ((packed & (1L << bit)) != 0L) {
+                        mask |= categoryBits[bit];
+                    }
+                }
+                masks[i] = mask;
+            }
+
+            words.put(partOfSpeech, new WordList(ByteBuffer.wrap(table), starts, lengths, count, masks, null));
+            categoryMasks.put(partOfSpeech, masks);
+        }
+        return new Vocabulary(words, categoryMasks);
+    }
+
+    /**
+     * Memory-maps a vocabulary text file and indexes it in place, see {@link #parse(ByteBuffer)}.
+     * The mapping stays alive while the vocabulary is in use.
+     */
+    static Vocabulary map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Vocabulary file is too large: " + file);
+            }
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Reads a vocabulary text file onto the heap and indexes it, see {@link #parse(ByteBuffer)}.
+     * Unlike {@link #map(Path)}, the vocabulary stays valid when the file is rewritten afterwards.
+     */
+    static Vocabulary load(Path file) throws IOException {
+        return parse(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Indexes a UTF-8 vocabulary text with one {@code word,PART_OF_SPEECH,CATEGORY|CATEGORY[,WEIGHT]} entry
+     * per line. Fields may also be separated by tabs, names are case-insensitive, and blank lines or lines
+     * starting with {@code #} are skipped. Only byte offsets are recorded, no string is created per word.
+     */
+    static Vocabulary parse(ByteBuffer text) throws IOException {
+        byte[][] partOfSpeechNames = asciiNames(PartsOfSpeech.values());
+        byte[][] categoryNames = asciiNames(Category.values());
+
+        PartsOfSpeech[] allPartsOfSpeech = PartsOfSpeech.values();
+        Category[] allCategories = Category.values();
+        Columns[] columns = new Columns[allPartsOfSpeech.length];
+
+        int limit = text.limit();
+        int start = startsWithBom(text) ? 3 : 0;
+        for (int line = 1; start < limit; line++) {
+            int end = start;
+            while (end < limit && text.get(end) != '\n') {
+                end++;
+            }
+            int next = end + 1;
+
+            end = trimEnd(text, start, end);
+            start = trimStart(text, start, end);
+            if (start < end && text.get(start) != COMMENT) {
+                int wordEnd = fieldEnd(text, start, end);
+                int partOfSpeechStart = wordEnd + 1;
+                int partOfSpeechEnd = fieldEnd(text, Math.min(partOfSpeechStart, end), end);
+
+                int wordLength = trimEnd(text, start, wordEnd) - start;
+                if (wordLength == 0 || partOfSpeechStart >= end) {
+                    throw new IOException("Expected word,PART_OF_SPEECH,CATEGORIES on line " + line);
+                }
+
+                int partOfSpeech = lookup(text, partOfSpeechStart, partOfSpeechEnd, partOfSpeechNames);
+                if (partOfSpeech < 0) {
+                    throw new IOException("Unknown part of speech '" + field(text, partOfSpeechStart, partOfSpeechEnd) +
+                            "' on line " + line);
+                }
+
+                int categoriesEnd = fieldEnd(text, Math.min(partOfSpeechEnd + 1, end), end);
+                long mask = 0L;
+                for (int from = partOfSpeechEnd + 1; from < categoriesEnd; ) {
+                    int to = from;
+                    while (to < categoriesEnd && text.get(to) != CATEGORY_SEPARATOR) {
+                        to++;
+                    }
+                    int category = lookup(text, from, to, categoryNames);
+                    if (category >= 0) {
+                        mask |= allCategories[category].mask();
+                    } else if (trimStart(text, from, to) < trimEnd(text, from, to)) {
+                        throw new IOException("Unknown category '" + field(text, from, to) + "' on line " + line);
+                    }
+                    from = to + 1;
+                }
+                if (mask == 0L) {
+                    throw new IOException("Word on line " + line + " must have at least one category");
+                }
+                double weight = categoriesEnd < end ? weight(text, categoriesEnd + 1, end, line) : Word.DEFAULT_WEIGHT;
+
+                if (columns[partOfSpeech] == null) {
+                    columns[partOfSpeech] = new Columns();
+                }
+                columns[partOfSpeech].add(start, wordLength, mask, weight);
+            }
+            start = next;
+        }
+
+        Map<PartsOfSpeech, WordList> words = new EnumMap<>(PartsOfSpeech.class);
+        Map<PartsOfSpeech, long[]> categoryMasks = new EnumMap<>(PartsOfSpeech.class);
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                Columns column = columns[i];
+                long[] masks = Arrays.copyOf(column.masks, column.size);
+                double[] weights = column.weights != null ? Arrays.copyOf(column.weights, column.size) : null;
+                words.put(allPartsOfSpeech[i], new WordList(text, column.starts, column.lengths, column.size, masks, weights));
+                categoryMasks.put(allPartsOfSpeech[i], masks);
+            }
+        }
+        return new Vocabulary(words, categoryMasks);
+    }
+
+    private static List<Word> toWordObjects(WordList words, long[] masks) {
+        List<Word> result = new ArrayList<>(words.size());
+
+        for (int i = 0; i < words.size(); i++) {
+            List<Category> categories = new ArrayList<>();
+            for (Category category : Category.values()) {
+                if ((masks[i] & category.mask()) != 0L) {
+                    categories.add(category);
+                }
+            }
+            result.add(new Word(words.get(i), words.weight(i), categories.toArray(new Category[0])));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static byte[][] asciiNames(Enum<?>[] values) {
+        byte[][] names = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+
+    /**
+     * Finds the name matching the trimmed bytes in {@code [start, end)}, ignoring ASCII case.
+     *
+     * @return index of the name, or -1 if none matches
+     */
+    private static int lookup(ByteBuffer text, int start, int end, byte[][] names) {
+        end = trimEnd(text, start, end);
+        start = trimStart(text, start, end);
+
+        for (int n = 0; n < names.length; n++) {
+            byte[] name = names[n];
+            if (name.length != end - start) {
+                continue;
+            }
+            int i = 0;
+            while (i < name.length && toUpperAscii(text.get(start + i)) == name[i]) {
+                i++;
+            }
+            if (i == name.length) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the optional weight field; an empty field means the default weight.
+     */
+    private static double weight(ByteBuffer text, int start, int end, int line) throws IOException {
+        String value = field(text, start, end);
+        if (value.isEmpty()) {
+            return Word.DEFAULT_WEIGHT;
+        }
+        try {
+            double weight = Double.parseDouble(value);
+            if (weight > 0 && !Double.isInfinite(weight)) {
+                return weight;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below with the line number
+        }
+        throw new IOException("Invalid weight '" + value + "' on line " + line + ", expected a positive number");
+    }
+
+    private static byte toUpperAscii(byte b) {
+        return b >= 'a' && b <= 'z' ? (byte) (b - ('a' - 'A')) : b;
+    }
+
+    private static int fieldEnd(ByteBuffer text, int start, int end) {
+        int i = start;
+        while (i < end && text.get(i) != ',' && text.get(i) != '\t') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimStart(ByteBuffer text, int start, int end) {
+        while (start < end && isBlank(text.get(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(ByteBuffer text, int start, int end) {
+        while (end > start && isBlank(text.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static boolean startsWithBom(ByteBuffer text) {
+        return text.limit() >= 3
+                && text.get(0) == (byte) 0xEF && text.get(1) == (byte) 0xBB && text.get(2) == (byte) 0xBF;
+    }
+
+    /**
+     * Decodes a field for an error message.
+     */
+    private static String field(ByteBuffer text, int start, int end) {
+        end = trimEnd(text, start, end);
+        start = trimStart(text, start, end);
+        byte[] bytes = new byte[end - start];
+        text.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Growable offsets, lengths, category masks and weights of the words of one part of speech.
+     * Weights are only stored once a word has a non-default one.
+     */
+    private static final class Columns {
+        int[] starts = new int[1024];
+        int[] lengths = new int[1024];
+        long[] masks = new long[1024];
+        double[] weights;
+        int size;
+
+        void add(int start, int length, long mask, double weight) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                masks = Arrays.copyOf(masks, capacity);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, capacity);
+                }
+            }
+            if (weights == null && weight != Word.DEFAULT_WEIGHT) {
+                weights = new double[starts.length];
+                Arrays.fill(weights, 0, size, Word.DEFAULT_WEIGHT);
+            }
+            starts[size] = start;
+            lengths[size] = length;
+            masks[size] = mask;
+            if (weights != null) {
+                weights[size] = weight;
+            }
+            size++;
+        }
+    }
+
+    /**
+     * Holder class, so the resource is only read when the built-in vocabulary is first used.
+     */
+    private static final class BuiltIn {
+        static final Vocabulary INSTANCE = load();
+
+        private static Vocabulary load() {
+            try (InputStream in = Vocabulary.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing vocabulary resource " + RESOURCE);
+                }
+                return read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read vocabulary resource " + RESOURCE, e);
+            }
+        }
+    }
+}
@@ -8,696 +8,262 @@
 
 package com.github.xaviercanadas.randomwordslugs.data;
 
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
 import com.github.xaviercanadas.randomwordslugs.model.Category;
 import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
 import com.github.xaviercanadas.randomwordslugs.model.Word;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class WordDatabase {
 
-    private final Map<PartsOfSpeech, List<Word>> wordsList;
+    private final Vocabulary vocabulary;
+
+    /**
+     * All words of each part of speech, as plain strings in database order.
+     */
+    private final Map<PartsOfSpeech, WordView> allWords;
+
+    /**
+     * Words of each part of speech indexed by category ordinal, filled on first lookup.
+     */
+    private final Map<PartsOfSpeech, AtomicReferenceArray<WordView>> categoryIndex;
+
+    /**
+     * Resolved unions for multi-category filters, keyed by category bitmask.
+     */
+    private final Map<PartsOfSpeech, Map<Long, WordView>> unionCache;
 
     public WordDatabase() {
-        this.wordsList = new EnumMap<>(PartsOfSpeech.class);
-        loadWords();
+        this(Vocabulary.builtIn());
     }
 
-    private void loadWords() {
-        List<Word> nouns = loadNouns();
-        List<Word> adjective = loadAdjective();
+    /**
+     * Returns the shared database over the built-in vocabulary, created on first use.
+     * It is immutable and thread-safe, so every generator can reuse it.
+     */
+    public static WordDatabase getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
 
-        this.wordsList.put(PartsOfSpeech.NOUN, Collections.unmodifiableList(nouns));
-        this.wordsList.put(PartsOfSpeech.ADJECTIVE, Collections.unmodifiableList(adjective));
+    /**
+     * Loads a custom vocabulary from a text or CSV file with one {@code word,PART_OF_SPEECH,CATEGORY|CATEGORY}
+     * entry per line, for example {@code otter,NOUN,ANIMALS|PLACE}. Fields may be separated by commas or tabs,
+     * names are case-insensitive, and blank lines or lines starting with {@code #} are ignored.
+     * An optional fourth field sets the selection weight of the word, e.g. {@code otter,NOUN,ANIMALS,2.5}.
+     * <p>
+     * The file is memory-mapped and indexed in place, and each word is only turned into a string
+     * when it is first used, so even very large lists load quickly.
+     * <p>
+     * Because of the mapping, the file must not be truncated or rewritten in place while the database is in use:
+     * the next word decoded from it would fail with an {@code InternalError}, or crash the JVM with {@code SIGBUS}.
+     * Replace the file atomically instead, or use {@link WordDatabaseWatcher} for a file that is edited,
+     * as it reads the file into memory on every reload.
+     *
+     * @param file UTF-8 vocabulary file
+     * @return database over the words of the file
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public static WordDatabase fromFile(Path file) throws IOException {
+        Objects.requireNonNull(file, "file cannot be null");
+        return new WordDatabase(Vocabulary.map(file));
     }
 
-    private List<Word> loadNouns() {
-        List<Word> nouns = new ArrayList<>();
-
-        nouns.add(new Word("accountant", Category.PROFESSION));
-        nouns.add(new Word("ability", Category.THING));
-        nouns.add(new Word("accident", Category.THING));
-        nouns.add(new Word("account", Category.THING));
-        nouns.add(new Word("action", Category.THING));
-        nouns.add(new Word("activity", Category.THING));
-        nouns.add(new Word("actor", Category.PROFESSION));
-        nouns.add(new Word("ad", Category.MEDIA));
-        nouns.add(new Word("addition", Category.THING));
-        nouns.add(new Word("address", Category.THING));
-        nouns.add(new Word("adult", Category.PEOPLE));
-        nouns.add(new Word("advantage", Category.THING));
-        nouns.add(new Word("advertisement", Category.MEDIA));
-        nouns.add(new Word("afternoon", Category.TIME));
-        nouns.add(new Word("agency", Category.THING));
-        nouns.add(new Word("agent", Category.PEOPLE));
-        nouns.add(new Word("air", Category.THING));
-        nouns.add(new Word("airline", Category.TRANSPORTATION));
-        nouns.add(new Word("airplane", Category.TRANSPORTATION));
-        nouns.add(new Word("airport", Category.TRANSPORTATION, Category.PLACE));
-        nouns.add(new Word("alarm", Category.THING));
-        nouns.add(new Word("alligator", Category.ANIMALS));
-        nouns.add(new Word("ambulance", Category.HEALTH));
-        nouns.add(new Word("analyst", Category.PROFESSION));
-        nouns.add(new Word("angle", Category.THING));
-        nouns.add(new Word("animal", Category.ANIMALS));
-        nouns.add(new Word("answer", Category.THING));
-        nouns.add(new Word("apartment", Category.PLACE));
-        nouns.add(new Word("apple", Category.FOOD));
-        nouns.add(new Word("application", Category.THING));
-        nouns.add(new Word("appointment", Category.THING));
-        nouns.add(new Word("architect", Category.PROFESSION));
-        nouns.add(new Word("argument", Category.THING));
-        nouns.add(new Word("area", Category.THING));
-        nouns.add(new Word("arm", Category.THING));
-        nouns.add(new Word("army", Category.THING));
-        nouns.add(new Word("art", Category.THING));
-        nouns.add(new Word("article", Category.THING));
-        nouns.add(new Word("artist", Category.PROFESSION));
-        nouns.add(new Word("australia", Category.PLACE));
-        nouns.add(new Word("author", Category.PROFESSION));
-        nouns.add(new Word("autumn", Category.TIME));
-        nouns.add(new Word("baby", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("baker", Category.PROFESSION));
-        nouns.add(new Word("balloon", Category.THING));
-        nouns.add(new Word("banana", Category.FOOD));
-        nouns.add(new Word("barista", Category.PROFESSION));
-        nouns.add(new Word("battery", Category.THING));
-        nouns.add(new Word("beach", Category.PLACE));
-        nouns.add(new Word("bear", Category.ANIMALS));
-        nouns.add(new Word("beard", Category.THING));
-        nouns.add(new Word("bed", Category.THING));
-        nouns.add(new Word("belgium", Category.PLACE));
-        nouns.add(new Word("bird", Category.ANIMALS));
-        nouns.add(new Word("bit", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("book", Category.THING, Category.EDUCATION));
-        nouns.add(new Word("boots", Category.THING));
-        nouns.add(new Word("boy", Category.PEOPLE));
-        nouns.add(new Word("branch", Category.THING));
-        nouns.add(new Word("breakfast", Category.THING));
-        nouns.add(new Word("brother", Category.FAMILY));
-        nouns.add(new Word("businessperson", Category.PEOPLE, Category.BUSINESS));
-        nouns.add(new Word("butcher", Category.PROFESSION));
-        nouns.add(new Word("byte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("camera", Category.THING));
-        nouns.add(new Word("candle", Category.THING));
-        nouns.add(new Word("car", Category.TRANSPORTATION));
-        nouns.add(new Word("caravan", Category.TRANSPORTATION));
-        nouns.add(new Word("carpenter", Category.PROFESSION));
-        nouns.add(new Word("carpet", Category.THING));
-        nouns.add(new Word("cartoon", Category.MEDIA));
-        nouns.add(new Word("cat", Category.ANIMALS));
-        nouns.add(new Word("chef", Category.PROFESSION));
-        nouns.add(new Word("child", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("china", Category.PLACE));
-        nouns.add(new Word("church", Category.RELIGION));
-        nouns.add(new Word("city", Category.PLACE));
-        nouns.add(new Word("coat", Category.THING));
-        nouns.add(new Word("coffeeshop", Category.PLACE));
-        nouns.add(new Word("computer", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("continent", Category.PLACE));
-        nouns.add(new Word("controller", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("country", Category.PLACE));
-        nouns.add(new Word("cpu", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("crayon", Category.THING));
-        nouns.add(new Word("cricket", Category.ANIMALS));
-        nouns.add(new Word("crowd", Category.PEOPLE));
-        nouns.add(new Word("daughter", Category.FAMILY));
-        nouns.add(new Word("dawn", Category.TIME));
-        nouns.add(new Word("daybreak", Category.TIME));
-        nouns.add(new Word("death", Category.THING));
-        nouns.add(new Word("denmark", Category.PLACE));
-        nouns.add(new Word("dentist", Category.PROFESSION));
-        nouns.add(new Word("diamond", Category.THING));
-        nouns.add(new Word("dinner", Category.FOOD));
-        nouns.add(new Word("disease", Category.THING));
-        nouns.add(new Word("doctor", Category.PROFESSION));
-        nouns.add(new Word("dog", Category.ANIMALS));
-        nouns.add(new Word("dream", Category.THING));
-        nouns.add(new Word("dress", Category.THING));
-        nouns.add(new Word("dusk", Category.TIME));
-        nouns.add(new Word("easter", Category.RELIGION));
-        nouns.add(new Word("egg", Category.FOOD));
-        nouns.add(new Word("eggplant", Category.FOOD));
-        nouns.add(new Word("egypt", Category.PLACE));
-        nouns.add(new Word("electrician", Category.PROFESSION));
-        nouns.add(new Word("elephant", Category.ANIMALS));
-        nouns.add(new Word("energy", Category.THING));
-        nouns.add(new Word("engine", Category.TRANSPORTATION));
-        nouns.add(new Word("engineer", Category.PROFESSION));
-        nouns.add(new Word("england", Category.PLACE));
-        nouns.add(new Word("eve", Category.TIME));
-        nouns.add(new Word("evening", Category.TIME));
-        nouns.add(new Word("eventide", Category.TIME));
-        nouns.add(new Word("exabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("eye", Category.THING));
-        nouns.add(new Word("fall", Category.TIME));
-        nouns.add(new Word("family", Category.FAMILY));
-        nouns.add(new Word("farmer", Category.PROFESSION));
-        nouns.add(new Word("father", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("finland", Category.PLACE));
-        nouns.add(new Word("fireman", Category.PROFESSION));
-        nouns.add(new Word("fish", Category.ANIMALS));
-        nouns.add(new Word("flag", Category.THING));
-        nouns.add(new Word("florist", Category.PROFESSION));
-        nouns.add(new Word("flower", Category.THING));
-        nouns.add(new Word("football", Category.SPORTS));
-        nouns.add(new Word("forest", Category.PLACE));
-        nouns.add(new Word("fountain", Category.THING));
-        nouns.add(new Word("france", Category.PLACE));
-        nouns.add(new Word("furniture", Category.THING));
-        nouns.add(new Word("garage", Category.PLACE));
-        nouns.add(new Word("garden", Category.FOOD));
-        nouns.add(new Word("gas", Category.TRANSPORTATION));
-        nouns.add(new Word("ghost", Category.THING));
-        nouns.add(new Word("gigabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("girl", Category.PEOPLE));
-        nouns.add(new Word("glass", Category.THING));
-        nouns.add(new Word("gold", Category.THING));
-        nouns.add(new Word("gpu", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("grandmother", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("grass", Category.THING));
-        nouns.add(new Word("greece", Category.PLACE));
-        nouns.add(new Word("guitar", Category.THING));
-        nouns.add(new Word("hair", Category.THING));
-        nouns.add(new Word("hairdresser", Category.PROFESSION));
-        nouns.add(new Word("hamburger", Category.FOOD));
-        nouns.add(new Word("helicopter", Category.TRANSPORTATION));
-        nouns.add(new Word("helmet", Category.THING));
-        nouns.add(new Word("holiday", Category.THING));
-        nouns.add(new Word("honey", Category.FOOD));
-        nouns.add(new Word("horse", Category.ANIMALS));
-        nouns.add(new Word("hospital", Category.PLACE));
-        nouns.add(new Word("house", Category.PLACE));
-        nouns.add(new Word("hydrogen", Category.SCIENCE));
-        nouns.add(new Word("ice", Category.SCIENCE));
-        nouns.add(new Word("insect", Category.ANIMALS));
-        nouns.add(new Word("insurance", Category.THING));
-        nouns.add(new Word("intern", Category.PROFESSION));
-        nouns.add(new Word("iron", Category.SCIENCE));
-        nouns.add(new Word("island", Category.PLACE));
-        nouns.add(new Word("jackal", Category.ANIMALS));
-        nouns.add(new Word("jelly", Category.FOOD));
-        nouns.add(new Word("jewellery", Category.THING));
-        nouns.add(new Word("jordan", Category.PLACE));
-        nouns.add(new Word("journalist", Category.PROFESSION));
-        nouns.add(new Word("joystick", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("judge", Category.PROFESSION));
-        nouns.add(new Word("juice", Category.FOOD));
-        nouns.add(new Word("kangaroo", Category.ANIMALS));
-        nouns.add(new Word("keyboard", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("kilobyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("king", Category.PEOPLE));
-        nouns.add(new Word("kitchen", Category.PLACE));
-        nouns.add(new Word("kite", Category.THING));
-        nouns.add(new Word("knife", Category.THING));
-        nouns.add(new Word("lamp", Category.THING));
-        nouns.add(new Word("laptop", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("lawyer", Category.PROFESSION));
-        nouns.add(new Word("leather", Category.THING));
-        nouns.add(new Word("librarian", Category.PROFESSION));
-        nouns.add(new Word("library", Category.PLACE));
-        nouns.add(new Word("lifeguard", Category.PROFESSION));
-        nouns.add(new Word("lighter", Category.THING));
-        nouns.add(new Word("lion", Category.ANIMALS));
-        nouns.add(new Word("lizard", Category.ANIMALS));
-        nouns.add(new Word("lock", Category.THING));
-        nouns.add(new Word("london", Category.PLACE));
-        nouns.add(new Word("lunch", Category.FOOD));
-        nouns.add(new Word("machine", Category.SCIENCE));
-        nouns.add(new Word("magazine", Category.MEDIA));
-        nouns.add(new Word("magician", Category.PEOPLE));
-        nouns.add(new Word("man", Category.PEOPLE));
-        nouns.add(new Word("manchester", Category.PLACE));
-        nouns.add(new Word("market", Category.PLACE));
-        nouns.add(new Word("match", Category.THING));
-        nouns.add(new Word("mechanic", Category.PROFESSION));
-        nouns.add(new Word("megabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("memory", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("microphone", Category.THING));
-        nouns.add(new Word("midnight", Category.TIME));
-        nouns.add(new Word("minister", Category.PEOPLE, Category.RELIGION));
-        nouns.add(new Word("monitor", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("monkey", Category.ANIMALS));
-        nouns.add(new Word("morn", Category.TIME));
-        nouns.add(new Word("morning", Category.TIME));
-        nouns.add(new Word("mother", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("motherboard", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("motorcycle", Category.TRANSPORTATION));
-        nouns.add(new Word("mouse", Category.THING, Category.TECHNOLOGY, Category.ANIMALS));
-        nouns.add(new Word("musician", Category.PROFESSION));
-        nouns.add(new Word("nail", Category.THING));
-        nouns.add(new Word("napkin", Category.THING));
-        nouns.add(new Word("needle", Category.THING));
-        nouns.add(new Word("nest", Category.THING));
-        nouns.add(new Word("nigeria", Category.PLACE));
-        nouns.add(new Word("night", Category.TIME));
-        nouns.add(new Word("nightfall", Category.TIME));
-        nouns.add(new Word("noon", Category.TIME));
-        nouns.add(new Word("notebook", Category.THING));
-        nouns.add(new Word("nurse", Category.PROFESSION));
-        nouns.add(new Word("ocean", Category.PLACE));
-        nouns.add(new Word("oil", Category.THING));
-        nouns.add(new Word("optician", Category.PROFESSION));
-        nouns.add(new Word("orange", Category.FOOD));
-        nouns.add(new Word("oxygen", Category.SCIENCE));
-        nouns.add(new Word("oyster", Category.ANIMALS));
-        nouns.add(new Word("pager", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("painter", Category.PROFESSION));
-        nouns.add(new Word("painting", Category.MEDIA));
-        nouns.add(new Word("park", Category.PLACE));
-        nouns.add(new Word("parrot", Category.ANIMALS));
-        nouns.add(new Word("pencil", Category.THING, Category.EDUCATION));
-        nouns.add(new Word("petabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("pharmacist", Category.PROFESSION));
-        nouns.add(new Word("photographer", Category.PROFESSION));
-        nouns.add(new Word("piano", Category.THING));
-        nouns.add(new Word("pillow", Category.THING));
-        nouns.add(new Word("pilot", Category.PROFESSION));
-        nouns.add(new Word("pizza", Category.FOOD));
-        nouns.add(new Word("planet", Category.SCIENCE));
-        nouns.add(new Word("plastic", Category.THING));
-        nouns.add(new Word("plumber", Category.PROFESSION));
-        nouns.add(new Word("policeman", Category.PROFESSION));
-        nouns.add(new Word("portugal", Category.PLACE));
-        nouns.add(new Word("postman", Category.PROFESSION));
-        nouns.add(new Word("potato", Category.FOOD));
-        nouns.add(new Word("printer", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("processor", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("psychiatrist", Category.PROFESSION));
-        nouns.add(new Word("queen", Category.PEOPLE));
-        nouns.add(new Word("quill", Category.THING));
-        nouns.add(new Word("rain", Category.THING));
-        nouns.add(new Word("rainbow", Category.SCIENCE));
-        nouns.add(new Word("raincoat", Category.THING));
-        nouns.add(new Word("ram", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("receptionist", Category.PROFESSION));
-        nouns.add(new Word("refrigerator", Category.FOOD));
-        nouns.add(new Word("restaurant", Category.PLACE));
-        nouns.add(new Word("river", Category.THING));
-        nouns.add(new Word("rocket", Category.SCIENCE));
-        nouns.add(new Word("room", Category.PLACE));
-        nouns.add(new Word("rose", Category.THING));
-        nouns.add(new Word("russia", Category.PLACE));
-        nouns.add(new Word("salesclerk", Category.PEOPLE, Category.BUSINESS));
-        nouns.add(new Word("salesmen", Category.PROFESSION));
-        nouns.add(new Word("sandwich", Category.FOOD));
-        nouns.add(new Word("school", Category.EDUCATION));
-        nouns.add(new Word("scientist", Category.PROFESSION));
-        nouns.add(new Word("scooter", Category.TRANSPORTATION));
-        nouns.add(new Word("secretary", Category.PROFESSION));
-        nouns.add(new Word("shampoo", Category.THING));
-        nouns.add(new Word("shoe", Category.THING));
-        nouns.add(new Word("smartphone", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("soccer", Category.SPORTS));
-        nouns.add(new Word("solstice", Category.TIME));
-        nouns.add(new Word("spoon", Category.THING));
-        nouns.add(new Word("spring", Category.TIME));
-        nouns.add(new Word("state", Category.PLACE));
-        nouns.add(new Word("stone", Category.THING));
-        nouns.add(new Word("student", Category.PEOPLE, Category.EDUCATION));
-        nouns.add(new Word("sugar", Category.FOOD));
-        nouns.add(new Word("summer", Category.TIME));
-        nouns.add(new Word("sundown", Category.TIME));
-        nouns.add(new Word("sunset", Category.TIME));
-        nouns.add(new Word("sweden", Category.PLACE));
-        nouns.add(new Word("table", Category.THING));
-        nouns.add(new Word("tailor", Category.PROFESSION));
-        nouns.add(new Word("teacher", Category.PEOPLE, Category.EDUCATION, Category.PROFESSION));
-        nouns.add(new Word("teenager", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("telephone", Category.THING));
-        nouns.add(new Word("television", Category.MEDIA));
-        nouns.add(new Word("tent", Category.THING));
-        nouns.add(new Word("terabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("thailand", Category.PLACE));
-        nouns.add(new Word("tiger", Category.ANIMALS));
-        nouns.add(new Word("toddler", Category.PEOPLE, Category.FAMILY));
-        nouns.add(new Word("tomato", Category.FOOD));
-        nouns.add(new Word("toothbrush", Category.THING));
-        nouns.add(new Word("traffic", Category.THING));
-        nouns.add(new Word("train", Category.TRANSPORTATION));
-        nouns.add(new Word("translator", Category.PROFESSION));
-        nouns.add(new Word("truck", Category.THING, Category.TRANSPORTATION));
-        nouns.add(new Word("twilight", Category.TIME));
-        nouns.add(new Word("uganda", Category.PLACE));
-        nouns.add(new Word("umbrella", Category.THING));
-        nouns.add(new Word("van", Category.TRANSPORTATION));
-        nouns.add(new Word("vase", Category.THING));
-        nouns.add(new Word("vegetable", Category.FOOD));
-        nouns.add(new Word("vr", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("vulture", Category.ANIMALS));
-        nouns.add(new Word("waiter", Category.PROFESSION));
-        nouns.add(new Word("waitress", Category.PROFESSION));
-        nouns.add(new Word("wall", Category.THING));
-        nouns.add(new Word("whale", Category.ANIMALS));
-        nouns.add(new Word("window", Category.THING));
-        nouns.add(new Word("winter", Category.TIME));
-        nouns.add(new Word("wire", Category.THING));
-        nouns.add(new Word("wolf", Category.ANIMALS));
-        nouns.add(new Word("woman", Category.PEOPLE));
-        nouns.add(new Word("xylophone", Category.THING));
-        nouns.add(new Word("yacht", Category.TRANSPORTATION));
-        nouns.add(new Word("yak", Category.ANIMALS));
-        nouns.add(new Word("yottabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("zebra", Category.ANIMALS));
-        nouns.add(new Word("zettabyte", Category.THING, Category.TECHNOLOGY));
-        nouns.add(new Word("zoo", Category.ANIMALS));
-
-        return  nouns;
+    WordDatabase(Vocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+        this.allWords = new EnumMap<>(PartsOfSpeech.class);
+        this.categoryIndex = new EnumMap<>(PartsOfSpeech.class);
+        this.unionCache = new EnumMap<>(PartsOfSpeech.class);
+        buildIndex();
     }
 
-    private List<Word> loadAdjective() {
-        List<Word> adjective = new ArrayList<>();
-
-        adjective.add(new Word("abandoned", Category.CONDITION));
-        adjective.add(new Word("abiding", Category.PERSONALITY));
-        adjective.add(new Word("able", Category.CONDITION));
-        adjective.add(new Word("abrasive", Category.CONDITION, Category.PERSONALITY));
-        adjective.add(new Word("abnormal", Category.CONDITION));
-        adjective.add(new Word("absurd", Category.CONDITION));
-        adjective.add(new Word("abundant", Category.QUANTITY));
-        adjective.add(new Word("acceptable", Category.CONDITION));
-        adjective.add(new Word("acidic", Category.TASTE));
-        adjective.add(new Word("acoustic", Category.SOUNDS));
-        adjective.add(new Word("acrid", Category.CONDITION));
-        adjective.add(new Word("adamant", Category.PERSONALITY));
-        adjective.add(new Word("adorable", Category.PERSONALITY));
-        adjective.add(new Word("adventurous", Category.PERSONALITY));
-        adjective.add(new Word("aggressive", Category.PERSONALITY));
-        adjective.add(new Word("agitated", Category.PERSONALITY));
-        adjective.add(new Word("agreeable", Category.PERSONALITY));
-        adjective.add(new Word("alert", Category.CONDITION));
-        adjective.add(new Word("alive", Category.CONDITION));
-        adjective.add(new Word("aloof", Category.PERSONALITY));
-        adjective.add(new Word("ambitious", Category.PERSONALITY));
-        adjective.add(new Word("ancient", Category.TIME));
-        adjective.add(new Word("angry", Category.PERSONALITY));
-        adjective.add(new Word("annoyed", Category.PERSONALITY));
-        adjective.add(new Word("antsy", Category.PERSONALITY));
-        adjective.add(new Word("anxious", Category.PERSONALITY));
-        adjective.add(new Word("appalling", Category.PERSONALITY));
-        adjective.add(new Word("appetizing", Category.TASTE));
-        adjective.add(new Word("apprehensive", Category.PERSONALITY));
-        adjective.add(new Word("arrogant", Category.PERSONALITY));
-        adjective.add(new Word("ashamed", Category.PERSONALITY));
-        adjective.add(new Word("astonishing", Category.PERSONALITY));
-        adjective.add(new Word("attractive", Category.APPEARANCE));
-        adjective.add(new Word("average", Category.APPEARANCE));
-        adjective.add(new Word("bad", Category.CONDITION));
-        adjective.add(new Word("bald", Category.APPEARANCE));
-        adjective.add(new Word("bashful", Category.PERSONALITY));
-        adjective.add(new Word("beautiful", Category.APPEARANCE));
-        adjective.add(new Word("beefy", Category.APPEARANCE));
-        adjective.add(new Word("belligerent", Category.PERSONALITY));
-        adjective.add(new Word("bent", Category.CONDITION));
-        adjective.add(new Word("best", Category.CONDITION));
-        adjective.add(new Word("better", Category.CONDITION));
-        adjective.add(new Word("bewildered", Category.PERSONALITY));
-        adjective.add(new Word("big", Category.SIZE));
-        adjective.add(new Word("billions", Category.QUANTITY));
-        adjective.add(new Word("billowy", Category.APPEARANCE));
-        adjective.add(new Word("bitter", Category.TASTE));
-        adjective.add(new Word("black", Category.COLOR));
-        adjective.add(new Word("bland", Category.TASTE));
-        adjective.add(new Word("blue", Category.COLOR));
-        adjective.add(new Word("blushing", Category.APPEARANCE));
-        adjective.add(new Word("bored", Category.PERSONALITY));
-        adjective.add(new Word("boring", Category.PERSONALITY));
-        adjective.add(new Word("boundless", Category.PERSONALITY));
-        adjective.add(new Word("brainy", Category.PERSONALITY));
-        adjective.add(new Word("brash", Category.PERSONALITY));
-        adjective.add(new Word("brave", Category.PERSONALITY));
-        adjective.add(new Word("breezy", Category.TOUCH));
-        adjective.add(new Word("brief", Category.TIME));
-        adjective.add(new Word("bright", Category.APPEARANCE));
-        adjective.add(new Word("broad", Category.SHAPES));
-        adjective.add(new Word("broken", Category.CONDITION));
-        adjective.add(new Word("brown", Category.COLOR));
-        adjective.add(new Word("bulky", Category.APPEARANCE));
-        adjective.add(new Word("bumpy", Category.TOUCH));
-        adjective.add(new Word("burly", Category.APPEARANCE));
-        adjective.add(new Word("busy", Category.PERSONALITY));
-        adjective.add(new Word("cagey", Category.PERSONALITY));
-        adjective.add(new Word("calm", Category.PERSONALITY));
-        adjective.add(new Word("callous", Category.PERSONALITY));
-        adjective.add(new Word("careful", Category.CONDITION));
-        adjective.add(new Word("chilly", Category.TOUCH));
-        adjective.add(new Word("chubby", Category.APPEARANCE));
-        adjective.add(new Word("clean", Category.APPEARANCE));
-        adjective.add(new Word("clever", Category.CONDITION));
-        adjective.add(new Word("clumsy", Category.PERSONALITY));
-        adjective.add(new Word("cold", Category.TOUCH));
-        adjective.add(new Word("colossal", Category.SIZE));
-        adjective.add(new Word("cool", Category.TOUCH));
-        adjective.add(new Word("crashing", Category.SOUNDS));
-        adjective.add(new Word("creamy", Category.TASTE));
-        adjective.add(new Word("crooked", Category.SHAPES));
-        adjective.add(new Word("cuddly", Category.TOUCH));
-        adjective.add(new Word("curved", Category.SHAPES));
-        adjective.add(new Word("damaged", Category.TOUCH));
-        adjective.add(new Word("damp", Category.TOUCH));
-        adjective.add(new Word("dazzling", Category.APPEARANCE));
-        adjective.add(new Word("dead", Category.CONDITION));
-        adjective.add(new Word("deafening", Category.SOUNDS));
-        adjective.add(new Word("deep", Category.SHAPES));
-        adjective.add(new Word("defeated", Category.PERSONALITY));
-        adjective.add(new Word("delicious", Category.TASTE));
-        adjective.add(new Word("delightful", Category.PERSONALITY));
-        adjective.add(new Word("dirty", Category.TOUCH));
-        adjective.add(new Word("disgusting", Category.TASTE));
-        adjective.add(new Word("drab", Category.APPEARANCE));
-        adjective.add(new Word("dry", Category.TOUCH));
-        adjective.add(new Word("eager", Category.PERSONALITY));
-        adjective.add(new Word("early", Category.TIME));
-        adjective.add(new Word("easy", Category.CONDITION));
-        adjective.add(new Word("echoing", Category.SOUNDS));
-        adjective.add(new Word("elegant", Category.APPEARANCE));
-        adjective.add(new Word("embarrassed", Category.PERSONALITY));
-        adjective.add(new Word("enough", Category.QUANTITY));
-        adjective.add(new Word("faint", Category.SOUNDS));
-        adjective.add(new Word("faithful", Category.PERSONALITY));
-        adjective.add(new Word("famous", Category.CONDITION));
-        adjective.add(new Word("fancy", Category.APPEARANCE));
-        adjective.add(new Word("fast", Category.TIME));
-        adjective.add(new Word("fat", Category.SIZE));
-        adjective.add(new Word("few", Category.QUANTITY));
-        adjective.add(new Word("fierce", Category.PERSONALITY));
-        adjective.add(new Word("fit", Category.APPEARANCE));
-        adjective.add(new Word("flabby", Category.APPEARANCE));
-        adjective.add(new Word("flaky", Category.TOUCH));
-        adjective.add(new Word("flat", Category.SHAPES));
-        adjective.add(new Word("fluffy", Category.TOUCH));
-        adjective.add(new Word("freezing", Category.TOUCH));
-        adjective.add(new Word("fresh", Category.TASTE));
-        adjective.add(new Word("full", Category.QUANTITY));
-        adjective.add(new Word("future", Category.TIME));
-        adjective.add(new Word("gentle", Category.PERSONALITY));
-        adjective.add(new Word("gifted", Category.CONDITION));
-        adjective.add(new Word("gigantic", Category.SIZE));
-        adjective.add(new Word("glamorous", Category.APPEARANCE));
-        adjective.add(new Word("gorgeous", Category.APPEARANCE));
-        adjective.add(new Word("gray", Category.COLOR));
-        adjective.add(new Word("greasy", Category.TOUCH, Category.TASTE));
-        adjective.add(new Word("great", Category.SIZE));
-        adjective.add(new Word("green", Category.COLOR));
-        adjective.add(new Word("grumpy", Category.PERSONALITY));
-        adjective.add(new Word("hallowed", Category.CONDITION));
-        adjective.add(new Word("handsome", Category.APPEARANCE));
-        adjective.add(new Word("happy", Category.PERSONALITY));
-        adjective.add(new Word("harsh", Category.SOUNDS));
-        adjective.add(new Word("helpful", Category.CONDITION));
-        adjective.add(new Word("helpless", Category.PERSONALITY));
-        adjective.add(new Word("high", Category.SHAPES));
-        adjective.add(new Word("hissing", Category.SOUNDS));
-        adjective.add(new Word("hollow", Category.SHAPES));
-        adjective.add(new Word("hot", Category.TOUCH, Category.TASTE));
-        adjective.add(new Word("howling", Category.SOUNDS));
-        adjective.add(new Word("huge", Category.SIZE));
-        adjective.add(new Word("hundreds", Category.QUANTITY));
-        adjective.add(new Word("icy", Category.TOUCH));
-        adjective.add(new Word("immense", Category.SIZE));
-        adjective.add(new Word("important", Category.CONDITION));
-        adjective.add(new Word("incalculable", Category.QUANTITY));
-        adjective.add(new Word("inexpensive", Category.CONDITION));
-        adjective.add(new Word("itchy", Category.PERSONALITY));
-        adjective.add(new Word("jealous", Category.PERSONALITY));
-        adjective.add(new Word("jolly", Category.PERSONALITY));
-        adjective.add(new Word("juicy", Category.TASTE));
-        adjective.add(new Word("kind", Category.PERSONALITY));
-        adjective.add(new Word("large", Category.SIZE));
-        adjective.add(new Word("late", Category.TIME));
-        adjective.add(new Word("lazy", Category.PERSONALITY));
-        adjective.add(new Word("lemon", Category.COLOR));
-        adjective.add(new Word("limited", Category.QUANTITY));
-        adjective.add(new Word("little", Category.SIZE, Category.QUANTITY));
-        adjective.add(new Word("lively", Category.PERSONALITY));
-        adjective.add(new Word("long", Category.TIME, Category.APPEARANCE));
-        adjective.add(new Word("loose", Category.TOUCH));
-        adjective.add(new Word("loud", Category.SOUNDS));
-        adjective.add(new Word("low", Category.SHAPES));
-        adjective.add(new Word("magnificent", Category.APPEARANCE));
-        adjective.add(new Word("mammoth", Category.SIZE));
-        adjective.add(new Word("mango", Category.COLOR));
-        adjective.add(new Word("many", Category.QUANTITY));
-        adjective.add(new Word("massive", Category.SIZE));
-        adjective.add(new Word("mealy", Category.CONDITION));
-        adjective.add(new Word("melodic", Category.SOUNDS));
-        adjective.add(new Word("melted", Category.TOUCH));
-        adjective.add(new Word("microscopic", Category.SIZE));
-        adjective.add(new Word("millions", Category.QUANTITY));
-        adjective.add(new Word("miniature", Category.SIZE));
-        adjective.add(new Word("modern", Category.TIME));
-        adjective.add(new Word("moldy", Category.TASTE));
-        adjective.add(new Word("most", Category.QUANTITY));
-        adjective.add(new Word("muscular", Category.APPEARANCE));
-        adjective.add(new Word("mushy", Category.CONDITION));
-        adjective.add(new Word("mysterious", Category.PERSONALITY));
-        adjective.add(new Word("narrow", Category.SHAPES));
-        adjective.add(new Word("nervous", Category.PERSONALITY));
-        adjective.add(new Word("nice", Category.PERSONALITY));
-        adjective.add(new Word("noisy", Category.SOUNDS));
-        adjective.add(new Word("numerous", Category.QUANTITY));
-        adjective.add(new Word("nutritious", Category.TASTE));
-        adjective.add(new Word("nutty", Category.TASTE));
-        adjective.add(new Word("obedient", Category.PERSONALITY));
-        adjective.add(new Word("obnoxious", Category.PERSONALITY));
-        adjective.add(new Word("odd", Category.CONDITION));
-        adjective.add(new Word("old", Category.TIME));
-        adjective.add(new Word("orange", Category.COLOR));
-        adjective.add(new Word("panicky", Category.PERSONALITY));
-        adjective.add(new Word("petite", Category.SIZE));
-        adjective.add(new Word("pitiful", Category.PERSONALITY));
-        adjective.add(new Word("plain", Category.APPEARANCE));
-        adjective.add(new Word("plump", Category.APPEARANCE));
-        adjective.add(new Word("polite", Category.PERSONALITY));
-        adjective.add(new Word("poor", Category.CONDITION));
-        adjective.add(new Word("powerful", Category.CONDITION));
-        adjective.add(new Word("prehistoric", Category.TIME));
-        adjective.add(new Word("prickly", Category.TOUCH));
-        adjective.add(new Word("proud", Category.PERSONALITY));
-        adjective.add(new Word("puny", Category.SIZE));
-        adjective.add(new Word("purple", Category.COLOR));
-        adjective.add(new Word("purring", Category.SOUNDS));
-        adjective.add(new Word("putrid", Category.TASTE));
-        adjective.add(new Word("quaint", Category.APPEARANCE));
-        adjective.add(new Word("quick", Category.TIME));
-        adjective.add(new Word("quiet", Category.SOUNDS));
-        adjective.add(new Word("rancid", Category.TASTE));
-        adjective.add(new Word("rapid", Category.TIME));
-        adjective.add(new Word("rapping", Category.SOUNDS));
-        adjective.add(new Word("raspy", Category.SOUNDS));
-        adjective.add(new Word("red", Category.COLOR));
-        adjective.add(new Word("refined", Category.SHAPES));
-        adjective.add(new Word("repulsive", Category.PERSONALITY));
-        adjective.add(new Word("rhythmic", Category.SOUNDS));
-        adjective.add(new Word("rich", Category.CONDITION));
-        adjective.add(new Word("ripe", Category.TASTE));
-        adjective.add(new Word("rotten", Category.TASTE));
-        adjective.add(new Word("rough", Category.TOUCH));
-        adjective.add(new Word("round", Category.SHAPES));
-        adjective.add(new Word("salmon", Category.COLOR));
-        adjective.add(new Word("salty", Category.TASTE));
-        adjective.add(new Word("savory", Category.TASTE));
-        adjective.add(new Word("scarce", Category.QUANTITY));
-        adjective.add(new Word("scary", Category.PERSONALITY));
-        adjective.add(new Word("scrawny", Category.SIZE));
-        adjective.add(new Word("screeching", Category.SOUNDS));
-        adjective.add(new Word("scruffy", Category.APPEARANCE));
-        adjective.add(new Word("shaggy", Category.TOUCH));
-        adjective.add(new Word("shallow", Category.SHAPES));
-        adjective.add(new Word("shapely", Category.APPEARANCE));
-        adjective.add(new Word("sharp", Category.TOUCH));
-        adjective.add(new Word("short", Category.SIZE, Category.APPEARANCE, Category.TIME));
-        adjective.add(new Word("shrilling", Category.SOUNDS));
-        adjective.add(new Word("shy", Category.CONDITION));
-        adjective.add(new Word("silly", Category.PERSONALITY));
-        adjective.add(new Word("skinny", Category.APPEARANCE, Category.SHAPES));
-        adjective.add(new Word("slimy", Category.TOUCH));
-        adjective.add(new Word("slow", Category.TIME));
-        adjective.add(new Word("small", Category.SIZE));
-        adjective.add(new Word("some", Category.QUANTITY));
-        adjective.add(new Word("sour", Category.TASTE));
-        adjective.add(new Word("sparse", Category.QUANTITY));
-        adjective.add(new Word("spicy", Category.TASTE));
-        adjective.add(new Word("spoiled", Category.TASTE));
-        adjective.add(new Word("square", Category.SHAPES));
-        adjective.add(new Word("squeaking", Category.SOUNDS));
-        adjective.add(new Word("stale", Category.TASTE));
-        adjective.add(new Word("steep", Category.SHAPES));
-        adjective.add(new Word("sticky", Category.TOUCH));
-        adjective.add(new Word("stocky", Category.APPEARANCE));
-        adjective.add(new Word("straight", Category.SHAPES));
-        adjective.add(new Word("strong", Category.TOUCH));
-        adjective.add(new Word("substantial", Category.QUANTITY));
-        adjective.add(new Word("sweet", Category.TASTE));
-        adjective.add(new Word("swift", Category.TIME));
-        adjective.add(new Word("tall", Category.SIZE));
-        adjective.add(new Word("tangy", Category.TASTE));
-        adjective.add(new Word("tart", Category.TASTE));
-        adjective.add(new Word("tasteless", Category.TASTE));
-        adjective.add(new Word("tasty", Category.TASTE));
-        adjective.add(new Word("teeny", Category.SIZE));
-        adjective.add(new Word("tender", Category.CONDITION));
-        adjective.add(new Word("thankful", Category.PERSONALITY));
-        adjective.add(new Word("thoughtless", Category.PERSONALITY));
-        adjective.add(new Word("thousands", Category.QUANTITY));
-        adjective.add(new Word("thundering", Category.SOUNDS));
-        adjective.add(new Word("tight", Category.TOUCH));
-        adjective.add(new Word("tinkling", Category.SOUNDS));
-        adjective.add(new Word("tiny", Category.SIZE));
-        adjective.add(new Word("ugly", Category.APPEARANCE));
-        adjective.add(new Word("uneven", Category.TOUCH));
-        adjective.add(new Word("unimportant", Category.CONDITION));
-        adjective.add(new Word("uninterested", Category.CONDITION));
-        adjective.add(new Word("unkempt", Category.APPEARANCE));
-        adjective.add(new Word("unsightly", Category.APPEARANCE));
-        adjective.add(new Word("uptight", Category.PERSONALITY));
-        adjective.add(new Word("vast", Category.CONDITION));
-        adjective.add(new Word("victorious", Category.PERSONALITY));
-        adjective.add(new Word("wailing", Category.SOUNDS));
-        adjective.add(new Word("warm", Category.TOUCH));
-        adjective.add(new Word("weak", Category.TOUCH));
-        adjective.add(new Word("wet", Category.TOUCH));
-        adjective.add(new Word("whining", Category.SOUNDS));
-        adjective.add(new Word("whispering", Category.SOUNDS));
-        adjective.add(new Word("white", Category.COLOR));
-        adjective.add(new Word("wide", Category.SHAPES));
-        adjective.add(new Word("witty", Category.PERSONALITY));
-        adjective.add(new Word("wonderful", Category.PERSONALITY));
-        adjective.add(new Word("wooden", Category.TOUCH));
-        adjective.add(new Word("worried", Category.PERSONALITY));
-        adjective.add(new Word("wrong", Category.CONDITION));
-        adjective.add(new Word("yellow", Category.COLOR));
-        adjective.add(new Word("young", Category.TIME));
-        adjective.add(new Word("yummy", Category.TASTE));
-        adjective.add(new Word("zealous", Category.PERSONALITY));
-
-        return adjective;
+    /**
+     * Sets up the per part of speech x category index. Each category is resolved once, on its first
+     * lookup, so candidate lookups never filter at call time and large vocabularies load without a full scan.
+     */
+    private void buildIndex() {
+        for (PartsOfSpeech partOfSpeech : PartsOfSpeech.values()) {
+            this.allWords.put(partOfSpeech, vocabulary.words(partOfSpeech));
+            this.categoryIndex.put(partOfSpeech, new AtomicReferenceArray<>(Category.values().length));
+            this.unionCache.put(partOfSpeech, new ConcurrentHashMap<>());
+        }
     }
 
     public List<Word> getWords(PartsOfSpeech partOfSpeech) {
-        return this.wordsList.getOrDefault(partOfSpeech, Collections.emptyList());
+        return vocabulary.wordObjects(partOfSpeech);
     }
 
     /**
      * Get wordsList filtered by categories.
      * If categories is null or empty, returns all wordsList for that part of speech.
+     * The returned list is unmodifiable and shared, so repeated lookups allocate nothing.
      */
     public List<String> getWordsByCategory(PartsOfSpeech partOfSpeech, List<Category> categories) {
-        List<Word> words = getWords(partOfSpeech);
+        return getWordsByMask(partOfSpeech, Category.maskOf(categories));
+    }
+
+    /**
+     * Get words matching any category of a bitmask, see {@link Category#mask()}.
+     * A zero mask returns all words; single categories come from the index and
+     * unions from a cache keyed by the mask itself.
+     */
+    public List<String> getWordsByMask(PartsOfSpeech partOfSpeech, long categoryMask) {
+        return wordsByMask(partOfSpeech, categoryMask, SlugMetrics.installed());
+    }
 
-        return words.stream()
-                .filter(word -> word.hasAnyCategory(categories))
-                .map(Word::getWord)
-                .collect(Collectors.toList());
+    /**
+     * Same words as {@link #getWordsByMask(PartsOfSpeech, long)}, in the same order, with their
+     * lowercase, capitalized and uppercase forms precomputed for formatting.
+     * The returned list is unmodifiable and shared.
+     */
+    public List<WordForms> getFormsByMask(PartsOfSpeech partOfSpeech, long categoryMask) {
+        return getFormsByMask(partOfSpeech, categoryMask, SlugMetrics.installed());
+    }
+
+    /**
+     * Same as {@link #getFormsByMask(PartsOfSpeech, long)}, reporting the cache lookup to the given metrics
+     * instead of the installed default, so a caller that already resolved its metrics reads them only once.
+     *
+     * @param metrics metrics to report to, or null to report nothing
+     */
+    public List<WordForms> getFormsByMask(PartsOfSpeech partOfSpeech, long categoryMask, SlugMetrics metrics) {
+        return wordsByMask(partOfSpeech, categoryMask, metrics).forms();
+    }
+
+    /**
+     * Tells whether any word has a selection weight other than {@link Word#DEFAULT_WEIGHT}.
+     */
+    public boolean hasWeights() {
+        return vocabulary.hasWeights();
+    }
+
+    /**
+     * Selection weights of the words returned by {@link #getFormsByMask(PartsOfSpeech, long)}, in the same order.
+     * The weight of each word is multiplied by the weight of each of its categories found in the map,
+     * so a category weight of 3 makes its words three times as likely.
+     *
+     * @param categoryWeights multiplier of each category, missing categories count as 1
+     * @return a new array of weights
+     */
+    public double[] getWeightsByMask(PartsOfSpeech partOfSpeech, long categoryMask,
+                                     Map<Category, Double> categoryWeights) {
+        Objects.requireNonNull(categoryWeights, "categoryWeights cannot be null");
+        WordView words = wordsByMask(partOfSpeech, categoryMask, null);
+
+        long weightedMask = 0L;
+        double[] multipliers = new double[Category.values().length];
+        for (Map.Entry<Category, Double> entry : categoryWeights.entrySet()) {
+            weightedMask |= entry.getKey().mask();
+            multipliers[entry.getKey().ordinal()] = entry.getValue();
+        }
+
+        double[] weights = new double[words.size()];
+        for (int i = 0; i < weights.length; i++) {
+            double weight = words.weight(i);
+            for (long bits = words.categoryMask(i) & weightedMask; bits != 0L; bits &= bits - 1) {
+                weight *= multipliers[Long.numberOfTrailingZeros(bits)];
+            }
+            weights[i] = weight;
+        }
+        return weights;
+    }
+
+    private WordView wordsByMask(PartsOfSpeech partOfSpeech, long categoryMask, SlugMetrics metrics) {
+        if (categoryMask == 0L) {
+            return this.allWords.getOrDefault(partOfSpeech, Vocabulary.NO_WORDS);
+        }
+
+        AtomicReferenceArray<WordView> index = this.categoryIndex.get(partOfSpeech);
+        if (index == null) {
+            return Vocabulary.NO_WORDS;
+        }
+        if (Long.bitCount(categoryMask) == 1) {
+            int ordinal = Long.numberOfTrailingZeros(categoryMask);
+            if (ordinal >= index.length()) {
+                return Vocabulary.NO_WORDS;
+            }
+            WordView words = index.get(ordinal);
+            recordLookup(metrics, partOfSpeech, words != null);
+            if (words == null) {
+                // Racing threads build equal lists, keep whichever is published first
+                index.compareAndSet(ordinal, null, filterByMask(vocabulary, partOfSpeech, categoryMask));
+                words = index.get(ordinal);
+            }
+            return words;
+        }
+
+        Map<Long, WordView> unions = this.unionCache.get(partOfSpeech);
+        WordView words = unions.get(categoryMask);
+        recordLookup(metrics, partOfSpeech, words != null);
+        if (words == null) {
+            // Racing threads build equal lists; built outside the map so no monitor is held meanwhile
+            words = filterByMask(vocabulary, partOfSpeech, categoryMask);
+            WordView existing = unions.putIfAbsent(categoryMask, words);
+            if (existing != null) {
+                words = existing;
+            }
+        }
+        return words;
+    }
+
+    private static void recordLookup(SlugMetrics metrics, PartsOfSpeech partOfSpeech, boolean hit) {
+        if (metrics != null) {
+            metrics.recordPoolLookup(partOfSpeech, hit);
+        }
     }
 
     public int getWordCount(PartsOfSpeech partOfSpeech) {
-        return getWords(partOfSpeech).size();
+        return vocabulary.words(partOfSpeech).size();
     }
 
 
+    /**
+     * Number of words matching any of the categories.
+     * Counts come from the cached candidate lists, so repeated calls are O(1).
+     */
     public int getWordCount(PartsOfSpeech partOfSpeech, List<Category> categories) {
         return getWordsByCategory(partOfSpeech, categories).size();
     }
+
+    /**
+     * Number of words matching any category of the bitmask.
+     */
+    public int getWordCount(PartsOfSpeech partOfSpeech, long categoryMask) {
+        return getWordsByMask(partOfSpeech, categoryMask).size();
+    }
+
+    /**
+     * Selects the words matching any category in the mask, keeping database order.
+     * Only the matching indexes are stored; words are decoded by the vocabulary when read.
+     */
+    private static WordView filterByMask(Vocabulary vocabulary, PartsOfSpeech partOfSpeech, long mask) {
+        long[] masks = vocabulary.categoryMasks(partOfSpeech);
+
+        int count = 0;
+        for (long wordMask : masks) {
+            if ((wordMask & mask) != 0L) {
+                count++;
+            }
+        }
+
+        int[] indexes = new int[count];
+        for (int i = 0, n = 0; n < count; i++) {
+            if ((masks[i] & mask) != 0L) {
+                indexes[n++] = i;
+            }
+        }
+        return vocabulary.words(partOfSpeech).select(indexes);
+    }
+
+    /**
+     * Holder class, so the default database is only built when first requested.
+     */
+    private static final class DefaultHolder {
+        static final WordDatabase INSTANCE = new WordDatabase();
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * WordDatabaseWatcher.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a {@link WordDatabase} in sync with a vocabulary file, see {@link WordDatabase#fromFile(Path)}
+ * for the format.
+ * <p>
+ * A {@link WatchService} thread rebuilds an immutable database in the background whenever the file
+ * changes, and publishes it through a volatile reference. Readers never lock: {@link #get()} is a single
+ * volatile read, and callers holding an older snapshot keep a consistent view until they are done with it.
+ * If a reload fails, for example because the file is malformed, the previous snapshot stays in place.
+ * Reloads run one at a time, so a slower read of an older file never replaces a newer snapshot.
+ * <p>
+ * Pass the watcher to {@link com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator#SlugGenerator(Supplier)}
+ * so every generated slug comes from the latest vocabulary.
+ */
+public final class WordDatabaseWatcher implements Supplier<WordDatabase>, Closeable {
+    /**
+     * Quiet period after the last change event before reloading, so a file being written is read once, complete.
+     */
+    private static final long SETTLE_MILLIS = 50;
+
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile WordDatabase current;
+    private volatile IOException lastFailure;
+
+    private WordDatabaseWatcher(Path file, WatchService watchService) throws IOException {
+        this.file = file;
+        this.watchService = watchService;
+        this.current = new WordDatabase(Vocabulary.load(file));
+        this.thread = Thread.ofPlatform()
+                .name("word-database-watcher")
+                .daemon()
+                .unstarted(this::watchLoop);
+    }
+
+    /**
+     * Loads the vocabulary file and starts watching it for changes.
+     *
+     * @param file UTF-8 vocabulary file
+     * @return watcher holding the loaded database
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static WordDatabaseWatcher watch(Path file) throws IOException {
+        Objects.requireNonNull(file, "file cannot be null");
+        Path absolute = file.toAbsolutePath();
+
+        WatchService watchService = absolute.getFileSystem().newWatchService();
+        try {
+            absolute.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            WordDatabaseWatcher watcher = new WordDatabaseWatcher(absolute, watchService);
+            watcher.thread.start();
+            return watcher;
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the latest database snapshot.
+     */
+    @Override
+    public WordDatabase get() {
+        return current;
+    }
+
+    /**
+     * Reloads the file now and swaps the new snapshot in. Waits for any reload already in progress,
+     * including one started by the watch thread.
+     *
+     * @throws IOException if the file cannot be read or is malformed, in which case the current snapshot is kept
+     */
+    public void reload() throws IOException {
+        // Reading and publishing under one lock keeps the snapshot and lastFailure in file order
+        reloadLock.lock();
+        try {
+            current = new WordDatabase(Vocabulary.load(file));
+            lastFailure = null;
+        } catch (IOException e) {
+            lastFailure = e;
+            throw e;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Error of the last background reload, or null if it succeeded.
+     */
+    public IOException getLastFailure() {
+        return lastFailure;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Stops watching the file. The last snapshot remains available from {@link #get()}.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+
+                // Wait until the file has been quiet for a moment before reading it
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(key);
+                }
+
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (IOException e) {
+                        // Kept in lastFailure; the previous snapshot stays in use
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Watcher closed
+        }
+    }
+
+    /**
+     * Consumes the events of a key and tells whether any concerns the watched file.
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * WordList.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.data;
+
+import com.github.xaviercanadas.randomwordslugs.model.Word;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unmodifiable list of words stored as UTF-8 byte ranges of a shared buffer, which may be
+ * a memory-mapped file. A word is only decoded the first time it is read, and its
+ * {@link WordForms} are computed and cached at the same time.
+ * <p>
+ * The cache is filled without locking: two threads may decode the same word, but the forms are
+ * immutable, so either copy is safe to publish.
+ */
+final class WordList extends WordView {
+    private final ByteBuffer source;
+    private final int[] starts;
+    private final int[] lengths;
+    private final long[] masks;
+    private final double[] weights;
+    private final WordForms[] cache;
+
+    /**
+     * @param source buffer holding the encoded words, only read with absolute operations
+     * @param starts offset of each word in the buffer
+     * @param lengths encoded length of each word
+     * @param size number of words, the arrays may be longer
+     * @param masks category bitmask of each word
+     * @param weights selection weight of each word, or null if every word has the default weight
+     */
+    WordList(ByteBuffer source, int[] starts, int[] lengths, int size, long[] masks, double[] weights) {
+        this.source = source;
+        this.starts = starts;
+        this.lengths = lengths;
+        this.masks = masks;
+        this.weights = weights;
+        this.cache = new WordForms[size];
+    }
+
+    @Override
+    WordForms forms(int index) {
+        WordForms forms = cache[index];
+        if (forms == null) {
+            forms = WordForms.of(decode(index));
+            cache[index] = forms;
+        }
+        return forms;
+    }
+
+    @Override
+    long categoryMask(int index) {
+        return masks[index];
+    }
+
+    @Override
+    double weight(int index) {
+        return weights != null ? weights[index] : Word.DEFAULT_WEIGHT;
+    }
+
+    boolean hasWeights() {
+        return weights != null;
+    }
+
+    @Override
+    public int size() {
+        return cache.length;
+    }
+
+    private String decode(int index) {
+        int start = starts[index];
+        int length = lengths[index];
+        if (source.hasArray()) {
+            return new String(source.array(), source.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        source.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * WordView.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.data;
+
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of words that also exposes the precomputed {@link WordForms} of each word,
+ * see {@link #forms()}. Lists returned by {@link WordDatabase} are views of this kind.
+ */
+abstract class WordView extends AbstractList<String> implements RandomAccess {
+    private final List<WordForms> forms = new FormsView(this);
+
+    /**
+     * Forms of the word at an index.
+     */
+    abstract WordForms forms(int index);
+
+    /**
+     * Category bitmask of the word at an index.
+     */
+    abstract long categoryMask(int index);
+
+    /**
+     * Selection weight of the word at an index.
+     */
+    abstract double weight(int index);
+
+    @Override
+    public String get(int index) {
+        return forms(index).getWord();
+    }
+
+    /**
+     * The same words as their precomputed forms, in the same order.
+     * Always returns the same instance for a given view.
+     */
+    List<WordForms> forms() {
+        return forms;
+    }
+
+    /**
+     * Returns a view with the words at the given indexes of this view.
+     */
+    WordView select(int[] indexes) {
+        return new Selection(this, indexes);
+    }
+
+    private static final class FormsView extends AbstractList<WordForms> implements RandomAccess {
+        private final WordView words;
+
+        FormsView(WordView words) {
+            this.words = words;
+        }
+
+        @Override
+        public WordForms get(int index) {
+            return words.forms(index);
+        }
+
+        @Override
+        public int size() {
+            return words.size();
+        }
+    }
+
+    /**
+     * Subset of a view, such as the words of one category.
+     */
+    private static final class Selection extends WordView {
+        private final WordView words;
+        private final int[] indexes;
+
+        Selection(WordView words, int[] indexes) {
+            this.words = words;
+            this.indexes = indexes;
+        }
+
+        @Override
+        WordForms forms(int index) {
+            return words.forms(indexes[index]);
+        }
+
+        @Override
+        long categoryMask(int index) {
+            return words.categoryMask(indexes[index]);
+        }
+
+        @Override
+        double weight(int index) {
+            return words.weight(indexes[index]);
+        }
+
+        @Override
+        public int size() {
+            return indexes.length;
+        }
+    }
+}
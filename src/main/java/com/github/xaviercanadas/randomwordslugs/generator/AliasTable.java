@@ -0,0 +1,124 @@
+/*
+ * AliasTable.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+/**
+ * Walker's alias table, built with Vose's method, for picking an index with probability
+ * proportional to its weight in O(1).
+ * <p>
+ * Every column holds its own index and an alias; a sample picks a column uniformly, then keeps the
+ * column with its threshold probability or falls to the alias otherwise. Both choices come from one
+ * 64-bit draw. Immutable and thread-safe.
+ */
+final class AliasTable {
+    private static final double SCALE = 0x1p32;
+
+    /**
+     * Probability of keeping each column, scaled to [0, 2^32].
+     */
+    private final long[] thresholds;
+    private final int[] aliases;
+    private final double[] weights;
+
+    private AliasTable(long[] thresholds, int[] aliases, double[] weights) {
+        this.thresholds = thresholds;
+        this.aliases = aliases;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds the table of a set of weights.
+     *
+     * @param weights positive finite weights, one per index, kept by the table
+     * @return the table, or null if every weight is equal and a uniform pick is enough
+     */
+    static AliasTable of(double[] weights) {
+        int n = weights.length;
+        double sum = 0;
+        boolean uniform = true;
+        for (double weight : weights) {
+            sum += weight;
+            uniform &= weight == weights[0];
+        }
+        if (uniform) {
+            return null;
+        }
+
+        // Scaled so the average column is exactly 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        long[] thresholds = new long[n];
+        int[] aliases = new int[n];
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = (long) (scaled[less] * SCALE);
+            aliases[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are full columns, up to rounding error
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            thresholds[column] = 1L << 32;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            thresholds[column] = 1L << 32;
+            aliases[column] = column;
+        }
+        return new AliasTable(thresholds, aliases, weights);
+    }
+
+    /**
+     * Maps 64 random bits to an index: the high half picks the column, the low half the coin.
+     * The column is picked like {@link Hashing#indexAt}, so equal weights give the same index.
+     */
+    int sample(long bits) {
+        int column = (int) (((bits >>> 32) * thresholds.length) >>> 32);
+        return (bits & 0xFFFFFFFFL) < thresholds[column] ? column : aliases[column];
+    }
+
+    /**
+     * Builds the table of a subset of the indexes, e.g. the words a blocklist allows, keeping their weights.
+     * Samples of that table are positions in the subset, not indexes of this one.
+     *
+     * @param indexes indexes of the subset
+     * @return the table, or null if the subset has equal weights
+     */
+    AliasTable subset(int[] indexes) {
+        double[] subsetWeights = new double[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            subsetWeights[i] = weights[indexes[i]];
+        }
+        return of(subsetWeights);
+    }
+
+    int size() {
+        return thresholds.length;
+    }
+}
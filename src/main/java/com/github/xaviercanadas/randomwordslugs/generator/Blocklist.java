@@ -0,0 +1,311 @@
+/*
+ * Blocklist.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set of terms that must never appear in a generated slug, not even across word boundaries.
+ * <p>
+ * Matching ignores case and every character that is not a letter or digit, so a term is caught in
+ * any output format: {@code "badword"} matches {@code "bad-word"}, {@code "badWord"} and {@code "Bad Word"}.
+ * The terms are compiled once into an Aho-Corasick automaton, so checking a slug is a single pass over it.
+ * <p>
+ * Set it with {@link SlugOptions.Builder#blocklist(Blocklist)}. Generators then only pick words that keep
+ * the slug clean, using precomputed tables of the words allowed after each automaton state, instead of
+ * retrying. Immutable and thread-safe.
+ */
+public final class Blocklist {
+    /**
+     * Returned by {@link #step} and {@link #run} once a term has been matched.
+     */
+    static final int MATCH = -1;
+
+    private static final int MAX_CACHED_TABLES = 64;
+
+    private final int size;
+    private final int symbols;
+    private final int[] asciiSymbols;
+    private final char[] otherChars;
+    private final int[] transitions;
+    private final boolean[] accepting;
+
+    /**
+     * Tables of allowed words, keyed by the identity of the candidate pools they were built for and the separator.
+     */
+    private final Map<PoolsKey, BlocklistTable> tables = new ConcurrentHashMap<>();
+
+    private Blocklist(List<String> terms) {
+        this.size = terms.size();
+
+        TreeSet<Character> alphabet = new TreeSet<>();
+        for (String term : terms) {
+            for (int i = 0; i < term.length(); i++) {
+                alphabet.add(term.charAt(i));
+            }
+        }
+        this.symbols = alphabet.size();
+        this.asciiSymbols = new int[128];
+        Arrays.fill(asciiSymbols, -1);
+        StringBuilder other = new StringBuilder();
+        int symbol = 0;
+        for (char c : alphabet) {
+            if (c < 128) {
+                asciiSymbols[c] = symbol;
+            } else {
+                other.append(c);
+            }
+            symbol++;
+        }
+        this.otherChars = other.toString().toCharArray();
+
+        // Trie of the terms, states numbered in insertion order with the root as 0
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        trie.add(newState());
+        terminal.add(false);
+        for (String term : terms) {
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                int s = symbolOf(term.charAt(i));
+                if (trie.get(state)[s] < 0) {
+                    trie.get(state)[s] = trie.size();
+                    trie.add(newState());
+                    terminal.add(false);
+                }
+                state = trie.get(state)[s];
+            }
+            terminal.set(state, true);
+        }
+
+        // Breadth-first pass resolving failure links into a full transition table
+        int states = trie.size();
+        this.transitions = new int[states * symbols];
+        this.accepting = new boolean[states];
+        int[] failure = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int s = 0; s < symbols; s++) {
+            int child = trie.get(0)[s];
+            if (child < 0) {
+                transitions[s] = 0;
+            } else {
+                transitions[s] = child;
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        accepting[0] = terminal.get(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepting[state] = terminal.get(state) || accepting[failure[state]];
+            for (int s = 0; s < symbols; s++) {
+                int child = trie.get(state)[s];
+                if (child < 0) {
+                    transitions[state * symbols + s] = transitions[failure[state] * symbols + s];
+                } else {
+                    transitions[state * symbols + s] = child;
+                    failure[child] = transitions[failure[state] * symbols + s];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles a blocklist from the given terms.
+     *
+     * @throws IllegalArgumentException if a term has no letter or digit
+     */
+    public static Blocklist of(String... terms) {
+        return of(Arrays.asList(terms));
+    }
+
+    /**
+     * Compiles a blocklist from the given terms.
+     *
+     * @throws IllegalArgumentException if a term has no letter or digit
+     */
+    public static Blocklist of(Collection<String> terms) {
+        Objects.requireNonNull(terms, "terms cannot be null");
+
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String term : terms) {
+            Objects.requireNonNull(term, "term cannot be null");
+            String key = normalize(term);
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Blocklist term must contain a letter or digit: '" + term + "'");
+            }
+            normalized.add(key);
+        }
+        return new Blocklist(List.copyOf(normalized));
+    }
+
+    /**
+     * Reads a blocklist from a UTF-8 file with one term per line.
+     * Blank lines and lines starting with {@code #} are ignored.
+     */
+    public static Blocklist load(Path file) throws IOException {
+        List<String> terms = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String term = line.strip();
+            if (!term.isEmpty() && !term.startsWith("#")) {
+                terms.add(term);
+            }
+        }
+        return of(terms);
+    }
+
+    /**
+     * Checks whether the text contains any term of this blocklist, in one pass.
+     */
+    public boolean matches(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            if (state == MATCH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of distinct terms, after normalization.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of automaton states; states are numbered from 0, the start state.
+     */
+    int stateCount() {
+        return accepting.length;
+    }
+
+    /**
+     * Advances the automaton by one character.
+     *
+     * @return the next state, or {@link #MATCH} if a term ends at this character
+     */
+    int step(int state, char c) {
+        if (!Character.isLetterOrDigit(c)) {
+            return state;
+        }
+        int symbol = symbolOf(Character.toLowerCase(c));
+        if (symbol < 0) {
+            return 0;
+        }
+        int next = transitions[state * symbols + symbol];
+        return accepting[next] ? MATCH : next;
+    }
+
+    /**
+     * Advances the automaton over a whole word.
+     *
+     * @return the state after the word, or {@link #MATCH} if a term ends inside it
+     */
+    int run(int state, String word) {
+        for (int i = 0; i < word.length() && state != MATCH; i++) {
+            state = step(state, word.charAt(i));
+        }
+        return state;
+    }
+
+    /**
+     * Returns the table of allowed words for these candidate pools, building it on first use.
+     *
+     * @param separator text the format writes between two words
+     * @throws IllegalStateException if the blocklist excludes every slug
+     */
+    BlocklistTable table(List<List<WordForms>> pools, String separator) {
+        PoolsKey key = new PoolsKey(pools, separator);
+        BlocklistTable table = tables.get(key);
+        if (table == null) {
+            if (tables.size() >= MAX_CACHED_TABLES) {
+                tables.clear();
+            }
+            // Built outside the map, as computeIfAbsent would hold a monitor and pin virtual threads
+            table = new BlocklistTable(this, pools, separator);
+            BlocklistTable existing = tables.putIfAbsent(key, table);
+            if (existing != null) {
+                table = existing;
+            }
+        }
+        return table;
+    }
+
+    private int symbolOf(char c) {
+        if (c < 128) {
+            return asciiSymbols[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index < 0 ? -1 : asciiCount() + index;
+    }
+
+    private int asciiCount() {
+        return symbols - otherChars.length;
+    }
+
+    private int[] newState() {
+        int[] children = new int[symbols];
+        Arrays.fill(children, -1);
+        return children;
+    }
+
+    /**
+     * Lowercase letters and digits of a term, the form matched against slugs.
+     */
+    private static String normalize(String term) {
+        StringBuilder normalized = new StringBuilder(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Candidate pools compared by identity, as the word database shares one list per filter, and a separator.
+     */
+    private record PoolsKey(List<List<WordForms>> pools, String separator) {
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PoolsKey other) || other.pools.size() != pools.size()
+                    || !other.separator.equals(separator)) {
+                return false;
+            }
+            for (int i = 0; i < pools.size(); i++) {
+                if (pools.get(i) != other.pools.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = separator.hashCode();
+            for (List<WordForms> pool : pools) {
+                hash = 31 * hash + System.identityHashCode(pool);
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * BlocklistTable.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed forbidden-transition tables of a {@link Blocklist} over fixed candidate pools.
+ * <p>
+ * For every position and every automaton state the slug can be in before that position, the table
+ * holds the words that neither complete a blocked term (inside the word or across the boundary with
+ * the previous words) nor lead to a state from which the rest of the slug cannot be completed.
+ * The format's separator runs through the automaton before every word but the first, so a separator
+ * with letters or digits takes part in matches like word text.
+ * Picking each word from its table therefore always yields a clean slug, with no retries.
+ * A {@link #weighted} table also holds an alias table over the allowed words of every position and state,
+ * so weighted picks are drawn among allowed words only. Immutable and thread-safe.
+ */
+final class BlocklistTable {
+    /**
+     * Marks a state after which every word of the pool is allowed.
+     */
+    private static final int[] ALL = new int[0];
+
+    private final Blocklist blocklist;
+    private final int[] poolSizes;
+
+    /**
+     * State after the separator by state before it; null when the separator leaves every state unchanged.
+     */
+    private final int[] afterSeparator;
+
+    /**
+     * Allowed word indexes by position and state; null for states the slug never reaches.
+     */
+    private final int[][][] allowed;
+
+    /**
+     * Weighted samplers of the allowed words by position and state, null entries for uniform picks;
+     * null when every pick is uniform.
+     */
+    private final AliasTable[][] samplers;
+
+    /**
+     * @param separator text the format writes between two words
+     */
+    BlocklistTable(Blocklist blocklist, List<? extends List<WordForms>> pools, String separator) {
+        this.blocklist = blocklist;
+        int positions = pools.size();
+        int states = blocklist.stateCount();
+        this.afterSeparator = separatorTransitions(blocklist, separator);
+
+        this.poolSizes = new int[positions];
+        for (int i = 0; i < positions; i++) {
+            poolSizes[i] = pools.get(i).size();
+        }
+
+        // Forward pass: states reachable before each position
+        boolean[][] reachable = new boolean[positions + 1][states];
+        reachable[0][0] = true;
+        for (int i = 0; i < positions; i++) {
+            List<WordForms> pool = pools.get(i);
+            for (int state = 0; state < states; state++) {
+                if (!reachable[i][state]) {
+                    continue;
+                }
+                for (WordForms word : pool) {
+                    int next = next(state, i, word);
+                    if (next != Blocklist.MATCH) {
+                        reachable[i + 1][next] = true;
+                    }
+                }
+            }
+        }
+
+        // Backward pass: keep only words leading to states that can still finish a clean slug
+        this.allowed = new int[positions][][];
+        boolean[] live = reachable[positions];
+        for (int i = positions - 1; i >= 0; i--) {
+            List<WordForms> pool = pools.get(i);
+            boolean[] liveBefore = new boolean[states];
+            allowed[i] = new int[states][];
+
+            for (int state = 0; state < states; state++) {
+                if (!reachable[i][state]) {
+                    continue;
+                }
+                int[] words = new int[pool.size()];
+                int count = 0;
+                for (int w = 0; w < words.length; w++) {
+                    int next = next(state, i, pool.get(w));
+                    if (next != Blocklist.MATCH && live[next]) {
+                        words[count++] = w;
+                    }
+                }
+                if (count > 0) {
+                    liveBefore[state] = true;
+                    allowed[i][state] = count == words.length ? ALL : Arrays.copyOf(words, count);
+                }
+            }
+            live = liveBefore;
+        }
+
+        if (positions > 0 && !live[0]) {
+            throw new IllegalStateException("Blocklist excludes every slug of this configuration");
+        }
+        this.samplers = null;
+    }
+
+    private BlocklistTable(BlocklistTable table, AliasTable[][] samplers) {
+        this.blocklist = table.blocklist;
+        this.poolSizes = table.poolSizes;
+        this.afterSeparator = table.afterSeparator;
+        this.allowed = table.allowed;
+        this.samplers = samplers;
+    }
+
+    /**
+     * Returns this table with weighted picks: every position and state gets an alias table over its
+     * allowed words, built from the sampler of the whole pool.
+     *
+     * @param poolSamplers weighted sampler of each pool, null entries for uniform pools
+     */
+    BlocklistTable weighted(AliasTable[] poolSamplers) {
+        AliasTable[][] samplers = new AliasTable[allowed.length][];
+        for (int i = 0; i < allowed.length; i++) {
+            if (poolSamplers[i] == null) {
+                continue;
+            }
+            samplers[i] = new AliasTable[allowed[i].length];
+            for (int state = 0; state < allowed[i].length; state++) {
+                int[] words = allowed[i][state];
+                if (words != null) {
+                    samplers[i][state] = words == ALL ? poolSamplers[i] : poolSamplers[i].subset(words);
+                }
+            }
+        }
+        return new BlocklistTable(this, samplers);
+    }
+
+    /**
+     * Weighted sampler of the allowed words at a position in the given state, whose samples are
+     * {@link #select} ranks; null when they are picked uniformly.
+     */
+    AliasTable sampler(int position, int state) {
+        return samplers != null && samplers[position] != null ? samplers[position][state] : null;
+    }
+
+    /**
+     * Number of words allowed at a position when the automaton is in the given state.
+     */
+    int count(int position, int state) {
+        int[] words = allowed[position][state];
+        return words == ALL ? poolSizes[position] : words.length;
+    }
+
+    /**
+     * Pool index of the n-th allowed word at a position, for {@code n < count(position, state)}.
+     */
+    int select(int position, int state, int n) {
+        int[] words = allowed[position][state];
+        return words == ALL ? n : words[n];
+    }
+
+    /**
+     * Automaton state after appending a word at a position, with the separator before it.
+     *
+     * @return the next state, or {@link Blocklist#MATCH} if a term ends in the separator or the word
+     */
+    int next(int state, int position, WordForms word) {
+        if (position > 0 && afterSeparator != null) {
+            state = afterSeparator[state];
+            if (state == Blocklist.MATCH) {
+                return state;
+            }
+        }
+        return blocklist.run(state, word.getLower());
+    }
+
+    /**
+     * Tells whether the slug made of these words contains a blocked term.
+     */
+    boolean isBlocked(WordForms[][] pools, int[] wordIndexes) {
+        int state = 0;
+        for (int i = 0; i < wordIndexes.length && state != Blocklist.MATCH; i++) {
+            state = next(state, i, pools[i][wordIndexes[i]]);
+        }
+        return state == Blocklist.MATCH;
+    }
+
+    private static int[] separatorTransitions(Blocklist blocklist, String separator) {
+        int[] transitions = new int[blocklist.stateCount()];
+        boolean identity = true;
+        for (int state = 0; state < transitions.length; state++) {
+            transitions[state] = blocklist.run(state, separator);
+            identity &= transitions[state] == state;
+        }
+        return identity ? null : transitions;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * BloomIssuedSlugs.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate {@link IssuedSlugs}: a Bloom filter over the packed slugs.
+ * <p>
+ * A key sets {@code k} bits derived from one 64-bit hash by double hashing, so a key that finds all of
+ * them set is taken as issued. Bits are set with atomic ors, so adds are lock-free. Two threads drawing
+ * the same new slug at the same instant may both see a bit flip and both accept it; this is far rarer
+ * than a false reject.
+ */
+final class BloomIssuedSlugs extends IssuedSlugs {
+    private static final double LN_2 = Math.log(2);
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLong size = new AtomicLong();
+
+    BloomIssuedSlugs(long expectedSlugs, double falseRejectRate) {
+        if (expectedSlugs <= 0) {
+            throw new IllegalArgumentException("Expected slugs must be positive");
+        }
+        if (!(falseRejectRate > 0 && falseRejectRate < 1)) {
+            throw new IllegalArgumentException("False reject rate must be in (0, 1): " + falseRejectRate);
+        }
+
+        // Optimal size and hash count: m = -n ln p / (ln 2)^2 and k = m / n * ln 2
+        double optimalBits = Math.ceil(-expectedSlugs * Math.log(falseRejectRate) / (LN_2 * LN_2));
+        if (optimalBits > MAX_BITS) {
+            throw new IllegalArgumentException("Bloom filter for " + expectedSlugs + " slugs at rate "
+                    + falseRejectRate + " would exceed " + MAX_BITS / Byte.SIZE + " bytes");
+        }
+        int wordCount = (int) Math.max(1, ((long) optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * Long.SIZE;
+        this.hashes = (int) Math.max(1, Math.min(32, Math.round(bits / (double) expectedSlugs * LN_2)));
+    }
+
+    @Override
+    public long size() {
+        return size.get();
+    }
+
+    @Override
+    public long memoryBytes() {
+        return bits / Byte.SIZE;
+    }
+
+    @Override
+    boolean add(long key) {
+        long hash = Hashing.mix64(key);
+        long step = Hashing.mix64(hash + Hashing.GOLDEN_GAMMA) | 1;
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.unsignedMultiplyHigh(hash + i * step, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                added |= (words.getAndAccumulate(word, mask, (current, m) -> current | m) & mask) == 0;
+            }
+        }
+        if (added) {
+            size.incrementAndGet();
+        }
+        return added;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * ExactIssuedSlugs.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Exact {@link IssuedSlugs}: a fixed-size open-addressing set of longs with linear probing.
+ * <p>
+ * The table is a power of two kept at most three quarters full, so probes stay short.
+ * Slots are claimed with a compare-and-set and never removed, so adds are lock-free.
+ * 0 marks an empty slot; the key 0 itself is tracked apart.
+ */
+final class ExactIssuedSlugs extends IssuedSlugs {
+    private static final int MAX_SLUGS = 3 << 28;
+
+    private final AtomicLongArray table;
+    private final int mask;
+    private final int maxSlugs;
+    private final AtomicBoolean zero = new AtomicBoolean();
+    private final AtomicLong size = new AtomicLong();
+
+    ExactIssuedSlugs(int maxSlugs) {
+        if (maxSlugs <= 0 || maxSlugs > MAX_SLUGS) {
+            throw new IllegalArgumentException("Maximum slugs must be in (0, " + MAX_SLUGS + "]: " + maxSlugs);
+        }
+        long slots = Math.max(2, Long.highestOneBit(((long) maxSlugs * 4 / 3) * 2 - 1));
+        this.table = new AtomicLongArray((int) slots);
+        this.mask = (int) slots - 1;
+        this.maxSlugs = maxSlugs;
+    }
+
+    @Override
+    public long size() {
+        return size.get();
+    }
+
+    @Override
+    public long memoryBytes() {
+        return (long) table.length() * Long.BYTES;
+    }
+
+    @Override
+    boolean add(long key) {
+        if (key == 0) {
+            if (zero.get()) {
+                return false;
+            }
+            checkNotFull();
+            return zero.compareAndSet(false, true) && claim();
+        }
+
+        int slot = (int) Hashing.mix64(key) & mask;
+        while (true) {
+            long current = table.get(slot);
+            if (current == key) {
+                return false;
+            }
+            if (current == 0) {
+                checkNotFull();
+                if (table.compareAndSet(slot, 0, key)) {
+                    return claim();
+                }
+                // Lost the slot to another add, which may have been this very key
+                continue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void checkNotFull() {
+        if (size.get() >= maxSlugs) {
+            throw new IllegalStateException("Issued slug set is full: " + maxSlugs + " slugs");
+        }
+    }
+
+    private boolean claim() {
+        size.incrementAndGet();
+        return true;
+    }
+}
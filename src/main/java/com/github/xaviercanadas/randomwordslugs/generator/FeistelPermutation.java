@@ -0,0 +1,74 @@
+/*
+ * FeistelPermutation.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+/**
+ * Keyed pseudo-random permutation of {@code [0, size)}.
+ * A balanced Feistel network permutes the smallest even-bit power of two covering the range,
+ * and cycle-walking maps values that fall outside it back in. The domain is less than four
+ * times the range, so a lookup takes fewer than four network evaluations on average.
+ */
+final class FeistelPermutation {
+    /**
+     * Largest supported range, so the Feistel domain fits in a non-negative long.
+     */
+    static final long MAX_SIZE = 1L << 62;
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys;
+
+    FeistelPermutation(long size, long key) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Permutation size must be in (0, 2^62]: " + size);
+        }
+
+        int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+        this.size = size;
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        this.roundKeys = new long[ROUNDS];
+
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += Hashing.GOLDEN_GAMMA;
+            roundKeys[i] = Hashing.mix64(state);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Maps an index in {@code [0, size)} to its image in {@code [0, size)}.
+     */
+    long permute(long index) {
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+
+        for (long roundKey : roundKeys) {
+            long next = left ^ (Hashing.mix64(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+}
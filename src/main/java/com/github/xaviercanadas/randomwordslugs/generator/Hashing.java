@@ -0,0 +1,72 @@
+/*
+ * Hashing.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Stateless 64-bit mixing functions shared by the keyed generation modes.
+ */
+final class Hashing {
+    /**
+     * Weyl sequence increment used by SplitMix64.
+     */
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Hashing() {
+    }
+
+    /**
+     * SplitMix64 finalizer: a bijective mix where every input bit affects every output bit.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Hashes a byte array to 64 bits, eight bytes at a time.
+     * The result only depends on the bytes, so it is stable across JVMs and restarts.
+     */
+    static long hashBytes(byte[] bytes) {
+        long hash = bytes.length * GOLDEN_GAMMA;
+        int i = 0;
+
+        for (; i + Long.BYTES <= bytes.length; i += Long.BYTES) {
+            hash = Long.rotateLeft(hash ^ mix64((long) LONG_LE.get(bytes, i)), 27) * MULTIPLIER;
+        }
+
+        long tail = 0;
+        for (int shift = 0; i < bytes.length; i++, shift += Byte.SIZE) {
+            tail |= (bytes[i] & 0xFFL) << shift;
+        }
+        return mix64(hash ^ mix64(tail + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Derives the word index of a position from a key hash, uniformly in {@code [0, bound)}.
+     */
+    static int indexAt(long hash, int position, int bound) {
+        return (int) (((positionHash(hash, position) >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Independent 64-bit hash of each position of a key hash.
+     */
+    static long positionHash(long hash, int position) {
+        return mix64(hash + (position + 1) * GOLDEN_GAMMA);
+    }
+}
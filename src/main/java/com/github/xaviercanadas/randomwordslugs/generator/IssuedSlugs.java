@@ -0,0 +1,111 @@
+/*
+ * IssuedSlugs.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
+
+/**
+ * Compact record of the random slugs already issued, used to never issue the same one twice.
+ * <p>
+ * Set it with {@link SlugOptions.Builder#issuedSlugs(IssuedSlugs)}. Random generation then redraws any
+ * slug the set has seen. Slugs are remembered by their word indexes packed into one {@code long}, not by
+ * their text, so an entry costs a few bytes whatever the format and length of the slug. Spaces of up to
+ * 2^63 combinations pack without loss; larger ones are keyed by a 64-bit hash of the indexes.
+ * <p>
+ * Two variants trade memory for accuracy:
+ * <ul>
+ *     <li>{@link #exact(int)}: an open-addressing hash set of primitive longs, about 11 to 21 bytes per slug.
+ *     Never rejects a new slug.</li>
+ *     <li>{@link #approximate(long, double)}: a Bloom filter of about {@code 1.44 * log2(1 / rate)} bits
+ *     per slug, e.g. 1.2 bytes at a 1% rate. Rejects that fraction of new slugs as if issued; they are
+ *     redrawn, so slugs stay unique but some are never issued.</li>
+ * </ul>
+ * Use one set per configuration, as slugs of different configurations can pack to the same key.
+ * Keyed slugs and unique sequences ignore it. Thread-safe and lock-free.
+ */
+public abstract class IssuedSlugs {
+    /**
+     * Draws tried for a slug before the space is considered exhausted.
+     */
+    static final int MAX_DRAWS = 10_000;
+
+    IssuedSlugs() {
+    }
+
+    /**
+     * Creates an exact set sized for a maximum number of slugs.
+     *
+     * @param maxSlugs number of slugs the set can hold
+     * @throws IllegalArgumentException if the maximum is not positive or above 805,306,368
+     */
+    public static IssuedSlugs exact(int maxSlugs) {
+        return new ExactIssuedSlugs(maxSlugs);
+    }
+
+    /**
+     * Creates a Bloom filter sized for an expected number of slugs and false-reject rate.
+     * The rate grows past the target once more slugs than expected have been issued.
+     *
+     * @param expectedSlugs number of slugs expected to be issued
+     * @param falseRejectRate fraction of new slugs wrongly rejected at the expected count, in (0, 1)
+     * @throws IllegalArgumentException if the count or rate is out of range, or the filter exceeds 16 GiB
+     */
+    public static IssuedSlugs approximate(long expectedSlugs, double falseRejectRate) {
+        return new BloomIssuedSlugs(expectedSlugs, falseRejectRate);
+    }
+
+    /**
+     * Number of slugs recorded as issued.
+     */
+    public abstract long size();
+
+    /**
+     * Memory taken by the set, in bytes.
+     */
+    public abstract long memoryBytes();
+
+    /**
+     * Records a packed slug as issued.
+     *
+     * @return true if it was new, false if it (probably) was issued before
+     * @throws IllegalStateException if an exact set is full
+     */
+    abstract boolean add(long key);
+
+    /**
+     * Appends a word index to a packed key, as a mixed-radix digit while it fits and hashed beyond.
+     */
+    static long pack(long key, int radix, int index) {
+        long next = key * radix + index;
+        if (Math.multiplyHigh(key, radix) == 0 && next >= 0) {
+            return next;
+        }
+        return Hashing.mix64(key + Hashing.mix64(index + Hashing.GOLDEN_GAMMA));
+    }
+
+    /**
+     * Reports redraws caused by already issued slugs.
+     */
+    static void recordRedraws(SlugMetrics metrics, int redraws) {
+        if (metrics != null && redraws > 0) {
+            metrics.recordUniqueRetries(redraws);
+        }
+    }
+
+    /**
+     * Reports and returns the failure of a slug that could not be drawn in {@link #MAX_DRAWS} tries.
+     */
+    static SlugSpaceExhaustedException exhausted(SlugMetrics metrics, IssuedSlugs issuedSlugs) {
+        recordRedraws(metrics, MAX_DRAWS);
+        if (metrics != null) {
+            metrics.recordExhaustion(issuedSlugs.size());
+        }
+        return new SlugSpaceExhaustedException(issuedSlugs.size(), MAX_DRAWS);
+    }
+}
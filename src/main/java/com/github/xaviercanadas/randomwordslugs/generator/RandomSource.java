@@ -0,0 +1,51 @@
+/*
+ * RandomSource.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy that supplies the random generator used to pick the words of a slug.
+ * It is queried once per slug, from the thread generating it.
+ */
+@FunctionalInterface
+public interface RandomSource {
+
+    /**
+     * Returns the generator to use for the calling thread.
+     */
+    RandomGenerator current();
+
+    /**
+     * Uses {@link ThreadLocalRandom}, so concurrent threads never share any state.
+     * This is the default source of {@link SlugGenerator}.
+     */
+    static RandomSource threadLocal() {
+        return ThreadLocalRandom::current;
+    }
+
+    /**
+     * Gives each thread its own generator split from the root, e.g. an {@code L64X128MixRandom}.
+     * Seeding the root makes the streams of each thread statistically independent.
+     */
+    static RandomSource split(RandomGenerator.SplittableGenerator root) {
+        return new SplittingRandomSource(root);
+    }
+
+    /**
+     * Uses the same generator for every thread.
+     * Useful for seeded single-threaded runs; the generator must be thread-safe if shared across threads.
+     */
+    static RandomSource shared(RandomGenerator generator) {
+        Objects.requireNonNull(generator, "generator cannot be null");
+        return () -> generator;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * SequenceCheckpoint.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Durable state of a {@link UniqueSlugSequence}: its permutation key, stripe, a fingerprint of the plan's
+ * pools and the end of the block of positions it has leased.
+ * <p>
+ * Positions are reserved in blocks of {@code leaseSize}, and each block is written and synced to disk
+ * before any of its positions is issued, so the cost of a sync is spread over the whole block.
+ * After a crash the sequence resumes at the end of the last leased block: the unissued rest of that
+ * block is skipped, but no slug is ever issued twice.
+ * <p>
+ * A checkpoint only resumes for the stripe and pools it was created for: the same slugs at the same
+ * positions, so positions issued before still name the slugs issued before.
+ * <p>
+ * The file holds two copies of the state, written alternately and each checked by a CRC, so a write
+ * torn by a crash leaves the previous copy intact. The file is locked while open, so two processes
+ * cannot resume the same sequence.
+ */
+final class SequenceCheckpoint implements AutoCloseable {
+    private static final int MAGIC = 0x534C5547; // "SLUG"
+    private static final int VERSION = 2;
+    private static final int RECORD_SIZE = 56;
+    private static final int SLOT_SIZE = 64;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long key;
+    private final int nodeId;
+    private final int nodeCount;
+    private final long spaceSize;
+    private final long fingerprint;
+    private final long capacity;
+    private final int leaseSize;
+    private final long start;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+    private volatile long leasedUntil;
+    private int nextSlot;
+
+    private SequenceCheckpoint(Path file, FileChannel channel, long key, int nodeId, int nodeCount, long spaceSize,
+                               long fingerprint, long capacity, int leaseSize, long leasedUntil, int nextSlot) {
+        this.file = file;
+        this.channel = channel;
+        this.key = key;
+        this.nodeId = nodeId;
+        this.nodeCount = nodeCount;
+        this.spaceSize = spaceSize;
+        this.fingerprint = fingerprint;
+        this.capacity = capacity;
+        this.leaseSize = leaseSize;
+        this.start = leasedUntil;
+        this.leasedUntil = leasedUntil;
+        this.nextSlot = nextSlot;
+    }
+
+    /**
+     * Opens the checkpoint of a sequence, creating it if the file does not exist or is empty.
+     *
+     * @param key permutation key of a created checkpoint
+     * @param requireKey whether a resumed checkpoint must have been created with this key,
+     *                   rather than resuming with its own
+     * @param fingerprint fingerprint of the plan's pools, see {@link SlugPlan#fingerprint()}
+     * @throws IllegalStateException if the file belongs to another stripe, configuration or key, or is in use
+     * @throws IOException if the file cannot be read, or is not empty and holds no valid checkpoint
+     */
+    static SequenceCheckpoint open(Path file, long key, boolean requireKey, int nodeId, int nodeCount,
+                                   long spaceSize, long fingerprint, long capacity, int leaseSize)
+            throws IOException {
+        if (leaseSize <= 0) {
+            throw new IllegalArgumentException("Lease size must be positive");
+        }
+
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            lock(channel, file);
+
+            ByteBuffer[] slots = {read(channel, 0), read(channel, SLOT_SIZE)};
+            int latest = -1;
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] != null && (latest < 0 || slots[i].getLong(40) > slots[latest].getLong(40))) {
+                    latest = i;
+                }
+            }
+            if (latest < 0) {
+                // Only an empty file starts fresh; anything else may be a damaged checkpoint worth keeping
+                if (channel.size() != 0) {
+                    throw new IOException("Corrupt sequence checkpoint: " + file);
+                }
+                SequenceCheckpoint checkpoint = new SequenceCheckpoint(file, channel,
+                        key, nodeId, nodeCount, spaceSize, fingerprint, capacity, leaseSize, 0, 0);
+                checkpoint.write(0);
+                syncDirectory(file);
+                return checkpoint;
+            }
+
+            ByteBuffer state = slots[latest];
+            if (state.getInt(8) != nodeId || state.getInt(12) != nodeCount || state.getLong(24) != spaceSize) {
+                throw new IllegalStateException("Sequence checkpoint " + file + " was created for node "
+                        + state.getInt(8) + " of " + state.getInt(12) + " over " + state.getLong(24)
+                        + " slugs, not node " + nodeId + " of " + nodeCount + " over " + spaceSize);
+            }
+            if (state.getLong(32) != fingerprint) {
+                throw new IllegalStateException("Sequence checkpoint " + file
+                        + " was created for other candidate words; resuming it could reissue slugs");
+            }
+            if (requireKey && state.getLong(16) != key) {
+                throw new IllegalStateException("Sequence checkpoint " + file + " was created with another key");
+            }
+            return new SequenceCheckpoint(file, channel, state.getLong(16), nodeId, nodeCount,
+                    spaceSize, fingerprint, capacity, leaseSize, state.getLong(40), 1 - latest);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Permutation key of the sequence, the stored one when resuming.
+     */
+    long key() {
+        return key;
+    }
+
+    /**
+     * Position the sequence resumes at: the end of the last leased block.
+     */
+    long start() {
+        return start;
+    }
+
+    /**
+     * Makes sure a position is covered by a durable lease, leasing a new block if it is not.
+     * Only one in {@code leaseSize} positions takes the lock and syncs the file.
+     *
+     * @throws UncheckedIOException if the lease cannot be written
+     */
+    void lease(long position) {
+        if (position < leasedUntil) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (position >= leasedUntil) {
+                long end = Math.min(capacity, Math.max(position + 1, leasedUntil + leaseSize));
+                write(end);
+                leasedUntil = end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write sequence checkpoint " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the state to the older slot and syncs it, so the newer one survives a torn write.
+     */
+    private void write(long end) throws IOException {
+        record.clear();
+        record.putInt(MAGIC).putInt(VERSION).putInt(nodeId).putInt(nodeCount)
+                .putLong(key).putLong(spaceSize).putLong(fingerprint).putLong(end);
+        record.putLong(crc(record.array()));
+        record.flip();
+
+        long offset = (long) nextSlot * SLOT_SIZE;
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        channel.force(false);
+        nextSlot = 1 - nextSlot;
+    }
+
+    private static void lock(FileChannel channel, Path file) throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            fileLock = null;
+        }
+        if (fileLock == null) {
+            throw new IllegalStateException("Sequence checkpoint " + file + " is already in use");
+        }
+    }
+
+    /**
+     * Makes a new file's directory entry durable. Not every platform can sync a directory, so this is best effort.
+     */
+    private static void syncDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directory sync unsupported here
+        }
+    }
+
+    /**
+     * Reads one slot, or returns null if it is missing or fails its check.
+     */
+    private static ByteBuffer read(FileChannel channel, long offset) throws IOException {
+        ByteBuffer slot = ByteBuffer.allocate(RECORD_SIZE);
+        while (slot.hasRemaining()) {
+            if (channel.read(slot, offset + slot.position()) < 0) {
+                return null;
+            }
+        }
+        if (slot.getInt(0) != MAGIC || slot.getInt(4) != VERSION
+                || slot.getLong(RECORD_SIZE - 8) != crc(slot.array())) {
+            return null;
+        }
+        return slot;
+    }
+
+    private static long crc(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, RECORD_SIZE - 8);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SlugBuffers.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+/**
+ * Reusable per-thread buffers slugs are assembled into.
+ * Virtual threads are typically short-lived and numerous, so they get a fresh buffer each time
+ * instead of keeping one alive per thread.
+ */
+final class SlugBuffers {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private SlugBuffers() {
+    }
+
+    /**
+     * Returns the empty buffer of the calling thread.
+     */
+    static StringBuilder acquire() {
+        if (Thread.currentThread().isVirtual()) {
+            return new StringBuilder(INITIAL_CAPACITY);
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer content, dropping the buffer if an unusually long slug made it grow too much.
+     */
+    static String release(StringBuilder buffer) {
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_CAPACITY && !Thread.currentThread().isVirtual()) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+}
@@ -9,30 +9,125 @@
 package com.github.xaviercanadas.randomwordslugs.generator;
 
 import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
 import com.github.xaviercanadas.randomwordslugs.model.Case;
 import com.github.xaviercanadas.randomwordslugs.model.Category;
 import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
-import com.github.xaviercanadas.randomwordslugs.util.Formatter;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
 
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
 
 /**
  * Main generator for creating random word slugs.
- * Thread-safe for concurrent slug generation.
+ * Thread-safe for concurrent slug generation: randomness comes from a {@link RandomSource},
+ * which by default gives every thread its own generator so threads never contend on a shared seed.
+ * <p>
+ * The word database may be supplied by a {@link Supplier}, such as a
+ * {@link com.github.xaviercanadas.randomwordslugs.data.WordDatabaseWatcher}, to pick up reloaded vocabularies.
+ * Each call reads the supplier once and uses that snapshot throughout.
+ * <p>
+ * Generation never blocks and takes no monitor, so it is safe to call from any number of virtual threads;
+ * {@link #generateAsync(SlugOptions)} and {@link #publisher(SlugOptions)} serve asynchronous callers.
  */
 public class SlugGenerator {
     private static final int DEFAULT_NUMBER_OF_WORDS = 3;
+    private static final double LOG_2 = Math.log(2);
+    private static final int MAX_CACHED_SAMPLERS = 256;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final int DEFAULT_LEASE_SIZE = 1024;
 
-    private final WordDatabase wordDatabase;
-    private final Random random;
+    /**
+     * Default executor of the asynchronous methods: a new virtual thread per task.
+     */
+    private static final Executor VIRTUAL_THREADS = new Executor() {
+        private final ThreadFactory threads = Thread.ofVirtual().name("slug-generator-", 0).factory();
+
+        @Override
+        public void execute(Runnable command) {
+            threads.newThread(command).start();
+        }
+    };
+
+    private final Supplier<WordDatabase> wordDatabases;
+    private final RandomSource randomSource;
+
+    /**
+     * Metrics of this generator and the plans it compiles, or null to report to the installed default.
+     */
+    private final SlugMetrics metrics;
+
+    /**
+     * Weighted samplers of the candidate pools used by uncompiled calls, empty when nothing is weighted.
+     */
+    private final Map<SamplerKey, Optional<AliasTable>> samplers = new ConcurrentHashMap<>();
 
+    /**
+     * Blocklist tables weighted for uncompiled calls, by unweighted table and category weights.
+     */
+    private final Map<WeightedTableKey, BlocklistTable> weightedTables = new ConcurrentHashMap<>();
+
+    /**
+     * Blocklist table of the last uncompiled call, so calls repeating one configuration skip the cache key.
+     * A best-effort single entry: calls alternating between configurations replace it every time and fall
+     * back to {@link #weightedTables}. Written without synchronization: the record is immutable, so a thread
+     * sees either entry whole.
+     */
+    private Recent<BlocklistTable> recentTable;
+
+    /**
+     * Last compiled plan, so batches, streams and iterators repeating one configuration skip compilation.
+     * A best-effort single entry like {@link #recentTable}: alternating configurations compile on every call.
+     */
+    private Recent<SlugPlan> recentPlan;
+
+    /**
+     * Creates a generator over the shared default word database, so construction is cheap.
+     */
     public SlugGenerator() {
-        this.wordDatabase = new WordDatabase();
-        this.random = new Random();
+        this(WordDatabase.getDefault());
     }
     public SlugGenerator(WordDatabase wordDatabase) {
-        this.wordDatabase = wordDatabase;
-        this.random = new Random();
+        this(wordDatabase, RandomSource.threadLocal());
+    }
+    public SlugGenerator(WordDatabase wordDatabase, RandomSource randomSource) {
+        this(supplierOf(wordDatabase), randomSource, null);
+    }
+
+    /**
+     * Creates a generator that reads its word database from a supplier on every call,
+     * so a swapped snapshot is used from the next call on.
+     */
+    public SlugGenerator(Supplier<WordDatabase> wordDatabases) {
+        this(wordDatabases, RandomSource.threadLocal());
+    }
+    public SlugGenerator(Supplier<WordDatabase> wordDatabases, RandomSource randomSource) {
+        this(wordDatabases, randomSource, null);
+    }
+
+    /**
+     * Creates a generator that reports to its own metrics, so generators of one application can feed
+     * different registries. The plans, sequences and publishers it creates report there too.
+     *
+     * @param metrics metrics of this generator, or null to report to {@link SlugMetrics#installed()}
+     */
+    public SlugGenerator(Supplier<WordDatabase> wordDatabases, RandomSource randomSource, SlugMetrics metrics) {
+        this.wordDatabases = Objects.requireNonNull(wordDatabases, "wordDatabases cannot be null");
+        this.randomSource = Objects.requireNonNull(randomSource, "randomSource cannot be null");
+        this.metrics = metrics;
     }
 
     /**
@@ -58,108 +153,795 @@ public class SlugGenerator {
 
     /**
      * Generates a slug with specified number of words and options.
+     * Words are appended straight into a reused per-thread buffer, so the returned
+     * string is the only allocation.
      *
      * @param numberOfWords total number of words in the slug
      * @param options configuration options (can be null for defaults)
      * @return generated slug
      */
     public String generate(int numberOfWords, SlugOptions options) {
-        if (numberOfWords <= 0) {
-            throw new IllegalArgumentException("Number of words must be positive");
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        List<PartsOfSpeech> partsOfSpeech = resolvePattern(numberOfWords, options);
+        SlugFormat format = options != null ? options.getSlugFormat() : SlugFormat.KEBAB;
+
+        WordDatabase wordDatabase = wordDatabases.get();
+        RandomGenerator random = randomSource.current();
+        StringBuilder slug = SlugBuffers.acquire();
+
+        BlocklistTable table = blocklistTable(wordDatabase, partsOfSpeech, options, numberOfWords, metrics);
+        IssuedSlugs issuedSlugs = options != null ? options.getIssuedSlugs() : null;
+        if (issuedSlugs != null) {
+            WordForms[] words = drawUnissued(wordDatabase, partsOfSpeech, options, numberOfWords, table,
+                    issuedSlugs, random, metrics, null, 0);
+            for (int i = 0; i < numberOfWords; i++) {
+                format.appendWord(slug, words[i], i);
+            }
+        } else {
+            boolean weighted = isWeighted(wordDatabase, options);
+            int state = 0;
+            for (int i = 0; i < numberOfWords; i++) {
+                List<WordForms> candidates = candidatesAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, metrics);
+                AliasTable sampler = weighted
+                        ? samplerAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, candidates) : null;
+                WordForms selectedWord = candidates.get(
+                        SlugPlan.randomIndex(candidates.size(), sampler, table, i, state, random));
+                if (table != null) {
+                    state = table.next(state, i, selectedWord);
+                }
+                format.appendWord(slug, selectedWord, i);
+            }
         }
 
-        SlugOptions opts = options != null ? options : createDefaultOptions(numberOfWords);
+        String result = SlugBuffers.release(slug);
+        recordGeneration(metrics, options, numberOfWords, start);
+        return result;
+    }
 
-        List<PartsOfSpeech> partsOfSpeech = opts.getPartsOfSpeech().isEmpty()
-                ? getDefaultPartsOfSpeech(numberOfWords)
-                : opts.getPartsOfSpeech();
+    /**
+     * Generates a slug with custom options using builder pattern.
+     *
+     * @param options configuration options
+     * @return generated slug
+     */
+    public String generate(SlugOptions options) {
+        return generate(numberOfWords(options), options);
+    }
 
-        if (partsOfSpeech.size() != numberOfWords) {
-            throw new IllegalArgumentException(
-                    "Parts of speech pattern length (" + partsOfSpeech.size() +
-                            ") must match number of words (" + numberOfWords + ")"
-            );
+    /**
+     * Writes a slug as UTF-8 at the buffer's position, advancing it.
+     * Words are copied from pre-encoded bytes, so no {@code String} is created.
+     * Nothing is written if the slug does not fit.
+     *
+     * @param target buffer to write to, e.g. an HTTP response buffer
+     * @param options configuration options (can be null for defaults)
+     * @return number of bytes written
+     * @throws BufferOverflowException if the slug does not fit in the remaining space
+     */
+    public int generateInto(ByteBuffer target, SlugOptions options) {
+        Objects.requireNonNull(target, "target cannot be null");
+        SlugFormat format = options != null ? options.getSlugFormat() : SlugFormat.KEBAB;
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        WordForms[] words = pickWords(options, format, target.remaining(), metrics);
+        if (words == null) {
+            throw new BufferOverflowException();
         }
 
-        List<String> words = new ArrayList<>(numberOfWords);
-        Map<PartsOfSpeech, List<Category>> categoryMap = opts.getCategories();
+        int length = encodedLength(words, format);
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < words.length; i++) {
+            format.writeWord(target, words[i], i);
+        }
+        recordGeneration(metrics, options, words.length, start);
+        return length;
+    }
 
-        for (PartsOfSpeech partOfSpeech : partsOfSpeech) {
-            List<Category> categories = categoryMap.get(partOfSpeech);
-            List<String> candidates = wordDatabase.getWordsByCategory(partOfSpeech, categories);
+    /**
+     * Writes a slug as UTF-8 into an array, starting at the given offset.
+     * Words are copied from pre-encoded bytes, so no {@code String} is created.
+     * Nothing is written if the slug does not fit.
+     *
+     * @param target array to write to
+     * @param offset index of the first byte to write
+     * @param options configuration options (can be null for defaults)
+     * @return number of bytes written
+     * @throws IndexOutOfBoundsException if the slug does not fit between the offset and the end of the array
+     */
+    public int generateInto(byte[] target, int offset, SlugOptions options) {
+        Objects.requireNonNull(target, "target cannot be null");
+        SlugFormat format = options != null ? options.getSlugFormat() : SlugFormat.KEBAB;
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        Objects.checkFromToIndex(offset, target.length, target.length);
+        WordForms[] words = pickWords(options, format, target.length - offset, metrics);
+        if (words == null) {
+            throw new IndexOutOfBoundsException(
+                    "Slug does not fit in the " + (target.length - offset) + " bytes after offset " + offset);
+        }
 
-            if (candidates.isEmpty()) {
-                throw new IllegalStateException(
-                        "No words available for " + partOfSpeech +
-                                " with categories " + categories
-                );
-            }
+        int length = encodedLength(words, format);
+        Objects.checkFromIndexSize(offset, length, target.length);
+        int position = offset;
+        for (int i = 0; i < words.length; i++) {
+            position += format.writeWord(target, position, words[i], i);
+        }
+        recordGeneration(metrics, options, words.length, start);
+        return length;
+    }
+
+    /**
+     * Appends a slug to a character sink, e.g. a {@code Writer} or a {@code StringBuilder},
+     * word by word from the precomputed forms, without building the whole slug first.
+     *
+     * @param target sink to append to
+     * @param options configuration options (can be null for defaults)
+     * @return number of bytes the slug takes in UTF-8, which is its length for the ASCII vocabulary
+     * @throws IOException if the sink fails
+     */
+    public int generateInto(Appendable target, SlugOptions options) throws IOException {
+        Objects.requireNonNull(target, "target cannot be null");
+        SlugFormat format = options != null ? options.getSlugFormat() : SlugFormat.KEBAB;
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        WordForms[] words = pickWords(options, format, Integer.MAX_VALUE, metrics);
 
-            String selectedWord = candidates.get(random.nextInt(candidates.size()));
-            words.add(selectedWord);
+        for (int i = 0; i < words.length; i++) {
+            format.appendWord(target, words[i], i);
         }
+        int length = encodedLength(words, format);
+        recordGeneration(metrics, options, words.length, start);
+        return length;
+    }
 
-        return Formatter.format(words, opts.getFormat());
+    /**
+     * Deterministically maps a key to a slug.
+     * The same key, options and vocabulary always give the same slug, across nodes and restarts,
+     * without storing a mapping. Different keys may map to the same slug; use
+     * {@link #uniqueSequence(SlugOptions, long)} when slugs must never repeat.
+     *
+     * @param key input key, e.g. a row id
+     * @param options configuration options (can be null for defaults)
+     * @return slug for the key
+     */
+    public String fromKey(long key, SlugOptions options) {
+        return keyed(Hashing.mix64(key), options);
     }
 
     /**
-     * Generates a slug with custom options using builder pattern.
+     * Deterministically maps a byte key, e.g. the 16 bytes of a UUID, to a slug.
      *
-     * @param options configuration options
-     * @return generated slug
+     * @param key input key
+     * @param options configuration options (can be null for defaults)
+     * @return slug for the key
+     * @see #fromKey(long, SlugOptions)
      */
-    public String generate(SlugOptions options) {
-        if (options == null || options.getPartsOfSpeech().isEmpty()) {
-            return generate(DEFAULT_NUMBER_OF_WORDS, options);
+    public String fromBytes(byte[] key, SlugOptions options) {
+        Objects.requireNonNull(key, "key cannot be null");
+        return keyed(Hashing.hashBytes(key), options);
+    }
+
+    /**
+     * Compiles options into a reusable plan with pre-resolved candidate pools.
+     * Hot paths with a fixed configuration should compile once and call {@link SlugPlan#next()}.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @return immutable, thread-safe generation plan
+     */
+    public SlugPlan compile(SlugOptions options) {
+        return compile(numberOfWords(options), options);
+    }
+
+    /**
+     * Compiles options with a specified number of words into a reusable plan.
+     * The generator remembers only its last plan: compiling the same options object and word count
+     * right after, over the same database snapshot, usually returns it. Callers alternating between
+     * configurations should keep their own plans.
+     *
+     * @param numberOfWords total number of words in the slug
+     * @param options configuration options (can be null for defaults)
+     * @return immutable, thread-safe generation plan
+     */
+    public SlugPlan compile(int numberOfWords, SlugOptions options) {
+        List<PartsOfSpeech> partsOfSpeech = resolvePattern(numberOfWords, options);
+        WordDatabase wordDatabase = wordDatabases.get();
+        Recent<SlugPlan> recent = recentPlan;
+        if (recent != null && recent.matches(wordDatabase, options, numberOfWords)) {
+            return recent.value();
+        }
+
+        SlugPlan plan = compile(wordDatabase, partsOfSpeech, numberOfWords, options);
+        recentPlan = new Recent<>(wordDatabase, options, numberOfWords, plan);
+        return plan;
+    }
+
+    private SlugPlan compile(WordDatabase wordDatabase, List<PartsOfSpeech> partsOfSpeech, int numberOfWords,
+                             SlugOptions options) {
+        SlugMetrics lookupMetrics = metrics();
+        WordForms[][] pools = new WordForms[numberOfWords][];
+        for (int i = 0; i < numberOfWords; i++) {
+            pools[i] = candidatesAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, lookupMetrics)
+                    .toArray(new WordForms[0]);
+        }
+        double[][] weights = null;
+        if (isWeighted(wordDatabase, options)) {
+            weights = new double[numberOfWords][];
+            for (int i = 0; i < numberOfWords; i++) {
+                weights[i] = weightsAt(wordDatabase, partsOfSpeech, options, i, numberOfWords);
+            }
         }
-        return generate(options.getPartsOfSpeech().size(), options);
+        if (options == null) {
+            return new SlugPlan(pools, Case.KEBAB, SlugFormat.KEBAB, randomSource, null, weights, null, metrics);
+        }
+        return new SlugPlan(pools, options.getFormat(), options.getSlugFormat(), randomSource, options.getBlocklist(),
+                weights, options.getIssuedSlugs(), metrics);
+    }
+
+    /**
+     * Generates many slugs in one call.
+     * The pattern and candidate pools are resolved once and shared by the whole batch.
+     *
+     * @param count number of slugs to generate
+     * @param options configuration options (can be null for defaults)
+     * @return unmodifiable list of generated slugs
+     */
+    public List<String> generateBatch(int count, SlugOptions options) {
+        return compile(options).generateBatch(count);
+    }
+
+    /**
+     * Fills a caller-provided array with generated slugs.
+     * The pattern and candidate pools are resolved once and shared by the whole batch.
+     *
+     * @param target array to fill
+     * @param offset index of the first slot to fill
+     * @param count number of slugs to generate
+     * @param options configuration options (can be null for defaults)
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public void generateBatch(String[] target, int offset, int count, SlugOptions options) {
+        Objects.checkFromIndexSize(offset, count, target.length);
+        compile(options).generateBatch(target, offset, count);
+    }
+
+    /**
+     * Returns an infinite, lazily generated stream of slugs.
+     * Candidate pools are resolved once; the stream can be made {@code parallel()} and
+     * should be bounded with {@code limit()}.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @return infinite stream of slugs
+     */
+    public Stream<String> stream(SlugOptions options) {
+        return compile(options).stream();
+    }
+
+    /**
+     * Returns an endless iterator of lazily generated slugs.
+     * Candidate pools are resolved once; the iterator is not thread-safe.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @return iterator that never runs out of slugs
+     */
+    public Iterator<String> iterator(SlugOptions options) {
+        return compile(options).iterator();
+    }
+
+    /**
+     * Generates a slug on a virtual thread.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @return future completed with the slug, or exceptionally if the options cannot be satisfied
+     */
+    public CompletableFuture<String> generateAsync(SlugOptions options) {
+        return generateAsync(options, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Generates a slug on the given executor.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @param executor executor running generation
+     * @return future completed with the slug, or exceptionally if the options cannot be satisfied
+     */
+    public CompletableFuture<String> generateAsync(SlugOptions options, Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        return CompletableFuture.supplyAsync(() -> generate(options), executor);
+    }
+
+    /**
+     * Returns a publisher of an endless supply of slugs that honours backpressure, generating
+     * on virtual threads in batches of up to 256 slugs.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @return publisher that never completes; subscribers cancel when they have enough
+     * @see SlugPlan#publisher(int, Executor)
+     */
+    public Flow.Publisher<String> publisher(SlugOptions options) {
+        return publisher(options, DEFAULT_BATCH_SIZE, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Returns a publisher of an endless supply of slugs that honours backpressure.
+     * Options are compiled once, and slugs are generated on the executor in batches of up to
+     * {@code batchSize}, only for outstanding demand.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @param batchSize maximum number of slugs generated at once
+     * @param executor executor running generation
+     * @return publisher that never completes; subscribers cancel when they have enough
+     */
+    public Flow.Publisher<String> publisher(SlugOptions options, int batchSize, Executor executor) {
+        return compile(options).publisher(batchSize, executor);
+    }
+
+    /**
+     * Creates a sequence that issues every slug of the configuration exactly once, in pseudo-random order.
+     * The order is keyed by a random value from this generator's random source.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @return a new unique slug sequence
+     */
+    public UniqueSlugSequence uniqueSequence(SlugOptions options) {
+        return uniqueSequence(options, randomSource.current().nextLong());
+    }
+
+    /**
+     * Creates a sequence that issues every slug of the configuration exactly once, in an order
+     * fully determined by the key. Sequences with the same key and configuration issue the same slugs
+     * in the same order.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @param key permutation key
+     * @return a new unique slug sequence
+     */
+    public UniqueSlugSequence uniqueSequence(SlugOptions options, long key) {
+        return compile(options).uniqueSequence(key);
+    }
+
+    /**
+     * Creates a sequence that issues one node's stripe of the slugs of the configuration, each exactly once.
+     * The space of combinations is permuted by the key and split into {@code nodeCount} interleaved stripes,
+     * so nodes sharing the key, options and vocabulary never issue the same slug, with zero coordination.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @param key permutation key, the same on every node
+     * @param nodeId index of this node, in {@code [0, nodeCount)}
+     * @param nodeCount number of nodes sharing the space
+     * @return a new unique slug sequence over this node's stripe
+     * @throws IllegalArgumentException if the node id or count is out of range
+     */
+    public UniqueSlugSequence uniqueSequence(SlugOptions options, long key, int nodeId, int nodeCount) {
+        return compile(options).uniqueSequence(key, nodeId, nodeCount);
+    }
+
+    /**
+     * Opens a sequence that issues every slug of the configuration exactly once, across restarts.
+     * The key and position are kept in the checkpoint file, which is created with a random key if missing
+     * and resumed with its stored key otherwise. Positions are leased 1024 at a time, so the file is synced
+     * once per 1024 slugs; after a crash up to that many slugs are skipped, but none is issued twice.
+     *
+     * @param options configuration options (can be null for defaults)
+     * @param checkpoint file holding the state of the sequence
+     * @return a new unique slug sequence, to be closed when done
+     * @throws IllegalStateException if the checkpoint belongs to another configuration, or is in use
+     * @throws IOException if the checkpoint cannot be read or created
+     * @see SlugPlan#uniqueSequence(long, int, int, Path, int)
+     */
+    public UniqueSlugSequence uniqueSequence(SlugOptions options, Path checkpoint) throws IOException {
+        Objects.requireNonNull(checkpoint, "checkpoint cannot be null");
+        return UniqueSlugSequence.open(compile(options), randomSource.current().nextLong(), false, 0, 1,
+                checkpoint, DEFAULT_LEASE_SIZE);
     }
 
     /**
      * Calculates total number of unique possible slugs for given configuration.
+     * Counts too large for a long saturate at {@link Long#MAX_VALUE}; use
+     * {@link #totalUniqueSlugsExact(int, SlugOptions)} for the exact value.
      *
      * @param numberOfWords number of words in slug
      * @param options configuration options (can be null)
      * @return total unique combinations possible
      */
     public long totalUniqueSlugs(int numberOfWords, SlugOptions options) {
-        SlugOptions opts = options != null ? options : createDefaultOptions(numberOfWords);
-        List<PartsOfSpeech> partsOfSpeech = opts.getPartsOfSpeech().isEmpty()
-                ? getDefaultPartsOfSpeech(numberOfWords)
-                : opts.getPartsOfSpeech();
-
         long combinations = 1;
-        Map<PartsOfSpeech, List<Category>> categoryMap = opts.getCategories();
 
-        for (PartsOfSpeech partOfSpeech : partsOfSpeech) {
-            List<Category> categories = categoryMap.get(partOfSpeech);
-            int wordCount = wordDatabase.getWordCount(partOfSpeech, categories);
-            combinations *= wordCount;
+        for (int wordCount : poolSizes(numberOfWords, options)) {
+            if (wordCount == 0) {
+                return 0;
+            }
+            if (combinations > Long.MAX_VALUE / wordCount) {
+                combinations = Long.MAX_VALUE;
+            } else {
+                combinations *= wordCount;
+            }
+        }
+
+        return combinations;
+    }
+
+    /**
+     * Calculates the exact total number of unique possible slugs for given configuration.
+     *
+     * @param numberOfWords number of words in slug
+     * @param options configuration options (can be null)
+     * @return total unique combinations possible
+     */
+    public BigInteger totalUniqueSlugsExact(int numberOfWords, SlugOptions options) {
+        BigInteger combinations = BigInteger.ONE;
+
+        for (int wordCount : poolSizes(numberOfWords, options)) {
+            combinations = combinations.multiply(BigInteger.valueOf(wordCount));
         }
 
         return combinations;
     }
 
     /**
-     * Creates default options with specified number of words.
+     * Calculates the entropy of a uniformly generated slug, i.e. log2 of the number of combinations.
+     *
+     * @param numberOfWords number of words in slug
+     * @param options configuration options (can be null)
+     * @return entropy in bits, or negative infinity when no slug is possible
      */
-    private SlugOptions createDefaultOptions(int numberOfWords) {
-        return SlugOptions.builder()
-                .partsOfSpeech(getDefaultPartsOfSpeech(numberOfWords))
-                .format(Case.KEBAB)
-                .build();
+    public double entropyBits(int numberOfWords, SlugOptions options) {
+        double bits = 0;
+
+        for (int wordCount : poolSizes(numberOfWords, options)) {
+            bits += Math.log(wordCount) / LOG_2;
+        }
+
+        return bits;
+    }
+
+    /**
+     * Number of candidate words at each position, from the counts cached by the word database.
+     */
+    private int[] poolSizes(int numberOfWords, SlugOptions options) {
+        List<PartsOfSpeech> partsOfSpeech = options != null ? options.getPartsOfSpeech() : List.of();
+        int length = partsOfSpeech.isEmpty() ? numberOfWords : partsOfSpeech.size();
+
+        WordDatabase wordDatabase = wordDatabases.get();
+        int[] sizes = new int[Math.max(length, 0)];
+        for (int i = 0; i < sizes.length; i++) {
+            PartsOfSpeech partOfSpeech = partOfSpeechAt(partsOfSpeech, i, length);
+            sizes[i] = wordDatabase.getWordCount(partOfSpeech, categoryMask(options, partOfSpeech));
+        }
+        return sizes;
+    }
+
+    /**
+     * Builds the slug whose word indexes are derived from a key hash.
+     */
+    private String keyed(long hash, SlugOptions options) {
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        int numberOfWords = numberOfWords(options);
+        List<PartsOfSpeech> partsOfSpeech = resolvePattern(numberOfWords, options);
+        SlugFormat format = options != null ? options.getSlugFormat() : SlugFormat.KEBAB;
+
+        WordDatabase wordDatabase = wordDatabases.get();
+        StringBuilder slug = SlugBuffers.acquire();
+
+        BlocklistTable table = blocklistTable(wordDatabase, partsOfSpeech, options, numberOfWords, metrics);
+        boolean weighted = isWeighted(wordDatabase, options);
+        int state = 0;
+        for (int i = 0; i < numberOfWords; i++) {
+            List<WordForms> candidates = candidatesAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, metrics);
+            AliasTable sampler = weighted
+                    ? samplerAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, candidates) : null;
+            WordForms word = candidates.get(SlugPlan.keyedIndex(candidates.size(), sampler, table, i, state, hash));
+            if (table != null) {
+                state = table.next(state, i, word);
+            }
+            format.appendWord(slug, word, i);
+        }
+        String result = SlugBuffers.release(slug);
+        recordGeneration(metrics, options, numberOfWords, start);
+        return result;
+    }
+
+    /**
+     * Picks the words of one random slug, honouring the blocklist and issued slugs of the options.
+     * With issued slugs, a slug longer than the capacity is not recorded and null is returned instead.
+     *
+     * @param capacity number of UTF-8 bytes the slug must fit in
+     */
+    private WordForms[] pickWords(SlugOptions options, SlugFormat format, int capacity, SlugMetrics metrics) {
+        int numberOfWords = numberOfWords(options);
+        List<PartsOfSpeech> partsOfSpeech = resolvePattern(numberOfWords, options);
+
+        WordDatabase wordDatabase = wordDatabases.get();
+        RandomGenerator random = randomSource.current();
+
+        BlocklistTable table = blocklistTable(wordDatabase, partsOfSpeech, options, numberOfWords, metrics);
+        IssuedSlugs issuedSlugs = options != null ? options.getIssuedSlugs() : null;
+        if (issuedSlugs != null) {
+            return drawUnissued(wordDatabase, partsOfSpeech, options, numberOfWords, table,
+                    issuedSlugs, random, metrics, format, capacity);
+        }
+
+        WordForms[] words = new WordForms[numberOfWords];
+        boolean weighted = isWeighted(wordDatabase, options);
+        int state = 0;
+        for (int i = 0; i < numberOfWords; i++) {
+            List<WordForms> candidates = candidatesAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, metrics);
+            AliasTable sampler = weighted
+                    ? samplerAt(wordDatabase, partsOfSpeech, options, i, numberOfWords, candidates) : null;
+            words[i] = candidates.get(SlugPlan.randomIndex(candidates.size(), sampler, table, i, state, random));
+            if (table != null) {
+                state = table.next(state, i, words[i]);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Draws the words of a slug not yet issued, with the draw loop shared with {@link SlugPlan}.
+     *
+     * @param format format to measure the slug in, or null for no capacity
+     * @return the words, or null if the slug does not fit in the capacity
+     */
+    private WordForms[] drawUnissued(WordDatabase wordDatabase, List<PartsOfSpeech> pattern, SlugOptions options,
+                                     int numberOfWords, BlocklistTable table, IssuedSlugs issuedSlugs,
+                                     RandomGenerator random, SlugMetrics metrics, SlugFormat format, int capacity) {
+        List<List<WordForms>> pools = candidatePools(wordDatabase, pattern, options, numberOfWords, metrics);
+        AliasTable[] samplers = null;
+        if (isWeighted(wordDatabase, options)) {
+            samplers = new AliasTable[numberOfWords];
+            for (int i = 0; i < numberOfWords; i++) {
+                samplers[i] = samplerAt(wordDatabase, pattern, options, i, numberOfWords, pools.get(i));
+            }
+        }
+
+        int[] wordIndexes = SlugPlan.drawUnissued(pools, samplers, table, issuedSlugs, random, metrics,
+                format, capacity);
+        if (wordIndexes == null) {
+            return null;
+        }
+        WordForms[] words = new WordForms[numberOfWords];
+        for (int i = 0; i < numberOfWords; i++) {
+            words[i] = pools.get(i).get(wordIndexes[i]);
+        }
+        return words;
+    }
+
+    /**
+     * Number of UTF-8 bytes of the slug made of these words.
+     */
+    private static int encodedLength(WordForms[] words, SlugFormat format) {
+        int length = 0;
+        for (int i = 0; i < words.length; i++) {
+            length += format.encodedLength(words[i], i);
+        }
+        return length;
+    }
+
+    /**
+     * Metrics of one call: this generator's own, or else the installed default, read once.
+     */
+    private SlugMetrics metrics() {
+        return metrics != null ? metrics : SlugMetrics.installed();
+    }
+
+    private static Supplier<WordDatabase> supplierOf(WordDatabase wordDatabase) {
+        Objects.requireNonNull(wordDatabase, "wordDatabase cannot be null");
+        return () -> wordDatabase;
+    }
+
+    /**
+     * Reports a generated slug to the call's metrics, if any.
+     *
+     * @param start {@link System#nanoTime()} when generation started
+     */
+    private static void recordGeneration(SlugMetrics metrics, SlugOptions options, int numberOfWords, long start) {
+        if (metrics != null) {
+            Case format = options != null ? options.getFormat() : Case.KEBAB;
+            metrics.recordGeneration(format, numberOfWords, System.nanoTime() - start);
+        }
     }
 
     /**
-     * Creates default parts of speech pattern: (n-1) adjectives + 1 noun.
+     * Number of words implied by the options: the pattern length, or the default when there is no pattern.
      */
-    private List<PartsOfSpeech> getDefaultPartsOfSpeech(int numberOfWords) {
-        List<PartsOfSpeech> pattern = new ArrayList<>(numberOfWords);
+    private static int numberOfWords(SlugOptions options) {
+        if (options == null || options.getPartsOfSpeech().isEmpty()) {
+            return DEFAULT_NUMBER_OF_WORDS;
+        }
+        return options.getPartsOfSpeech().size();
+    }
+
+    /**
+     * Returns the explicit pattern of the options, or an empty list for the default pattern,
+     * after checking it matches the requested number of words.
+     */
+    private static List<PartsOfSpeech> resolvePattern(int numberOfWords, SlugOptions options) {
+        if (numberOfWords <= 0) {
+            throw new IllegalArgumentException("Number of words must be positive");
+        }
+
+        List<PartsOfSpeech> partsOfSpeech = options != null ? options.getPartsOfSpeech() : List.of();
+        if (!partsOfSpeech.isEmpty() && partsOfSpeech.size() != numberOfWords) {
+            throw new IllegalArgumentException(
+                    "Parts of speech pattern length (" + partsOfSpeech.size() +
+                            ") must match number of words (" + numberOfWords + ")"
+            );
+        }
+        return partsOfSpeech;
+    }
+
+    /**
+     * Looks up the candidate words for a position.
+     *
+     * @throws IllegalStateException if no word matches the categories of that position
+     */
+    private static List<WordForms> candidatesAt(WordDatabase wordDatabase, List<PartsOfSpeech> pattern,
+                                             SlugOptions options, int position, int numberOfWords,
+                                             SlugMetrics metrics) {
+        PartsOfSpeech partOfSpeech = partOfSpeechAt(pattern, position, numberOfWords);
+        List<WordForms> candidates = wordDatabase.getFormsByMask(
+                partOfSpeech, categoryMask(options, partOfSpeech), metrics);
+
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException(
+                    "No words available for " + partOfSpeech +
+                            " with categories " + (options != null
+                            ? options.getCategories().getOrDefault(partOfSpeech, List.of()) : List.of())
+            );
+        }
+        return candidates;
+    }
+
+    /**
+     * Candidate words of every position.
+     */
+    private static List<List<WordForms>> candidatePools(WordDatabase wordDatabase, List<PartsOfSpeech> pattern,
+                                                     SlugOptions options, int numberOfWords, SlugMetrics metrics) {
+        List<List<WordForms>> pools = new ArrayList<>(numberOfWords);
+        for (int i = 0; i < numberOfWords; i++) {
+            pools.add(candidatesAt(wordDatabase, pattern, options, i, numberOfWords, metrics));
+        }
+        return pools;
+    }
+
+    /**
+     * Blocklist table of the candidate pools, weighted like them, or null when the options have no blocklist.
+     * A call repeating the last call's database, options and word count reuses its table without looking it up.
+     */
+    private BlocklistTable blocklistTable(WordDatabase wordDatabase, List<PartsOfSpeech> pattern,
+                                          SlugOptions options, int numberOfWords, SlugMetrics metrics) {
+        Blocklist blocklist = options != null ? options.getBlocklist() : null;
+        if (blocklist == null) {
+            return null;
+        }
+        Recent<BlocklistTable> recent = recentTable;
+        if (recent != null && recent.matches(wordDatabase, options, numberOfWords)) {
+            return recent.value();
+        }
+
+        BlocklistTable table = resolveBlocklistTable(wordDatabase, pattern, options, numberOfWords, blocklist, metrics);
+        recentTable = new Recent<>(wordDatabase, options, numberOfWords, table);
+        return table;
+    }
+
+    private BlocklistTable resolveBlocklistTable(WordDatabase wordDatabase, List<PartsOfSpeech> pattern,
+                                                 SlugOptions options, int numberOfWords, Blocklist blocklist,
+                                                 SlugMetrics metrics) {
+        List<List<WordForms>> pools = candidatePools(wordDatabase, pattern, options, numberOfWords, metrics);
+        BlocklistTable table = blocklist.table(pools, options.getSlugFormat().separator());
+        if (!isWeighted(wordDatabase, options)) {
+            return table;
+        }
+
+        WeightedTableKey key = new WeightedTableKey(table, options.getCategoryWeights());
+        BlocklistTable weighted = weightedTables.get(key);
+        if (weighted == null) {
+            AliasTable[] poolSamplers = new AliasTable[numberOfWords];
+            for (int i = 0; i < numberOfWords; i++) {
+                poolSamplers[i] = samplerAt(wordDatabase, pattern, options, i, numberOfWords, pools.get(i));
+            }
+            if (weightedTables.size() >= MAX_CACHED_SAMPLERS) {
+                weightedTables.clear();
+            }
+            weighted = table.weighted(poolSamplers);
+            BlocklistTable existing = weightedTables.putIfAbsent(key, weighted);
+            if (existing != null) {
+                weighted = existing;
+            }
+        }
+        return weighted;
+    }
+
+    /**
+     * Tells whether picks must follow weights: the vocabulary has weighted words or the options weight categories.
+     */
+    private static boolean isWeighted(WordDatabase wordDatabase, SlugOptions options) {
+        return wordDatabase.hasWeights() || (options != null && !options.getCategoryWeights().isEmpty());
+    }
+
+    /**
+     * Selection weights of the candidates of a position.
+     */
+    private static double[] weightsAt(WordDatabase wordDatabase, List<PartsOfSpeech> pattern, SlugOptions options,
+                                      int position, int numberOfWords) {
+        PartsOfSpeech partOfSpeech = partOfSpeechAt(pattern, position, numberOfWords);
+        Map<Category, Double> categoryWeights = options != null ? options.getCategoryWeights() : Map.of();
+        return wordDatabase.getWeightsByMask(partOfSpeech, categoryMask(options, partOfSpeech), categoryWeights);
+    }
+
+    /**
+     * Returns the weighted sampler of a candidate pool, building it on first use.
+     *
+     * @return the sampler, or null if every candidate has the same weight
+     */
+    private AliasTable samplerAt(WordDatabase wordDatabase, List<PartsOfSpeech> pattern, SlugOptions options,
+                                 int position, int numberOfWords, List<WordForms> candidates) {
+        Map<Category, Double> categoryWeights = options != null ? options.getCategoryWeights() : Map.of();
+        SamplerKey key = new SamplerKey(candidates, categoryWeights);
+        Optional<AliasTable> sampler = samplers.get(key);
+        if (sampler == null) {
+            if (samplers.size() >= MAX_CACHED_SAMPLERS) {
+                samplers.clear();
+            }
+            double[] weights = weightsAt(wordDatabase, pattern, options, position, numberOfWords);
+            sampler = Optional.ofNullable(AliasTable.of(weights));
+            Optional<AliasTable> existing = samplers.putIfAbsent(key, sampler);
+            if (existing != null) {
+                sampler = existing;
+            }
+        }
+        return sampler.orElse(null);
+    }
+
+    /**
+     * Category bitmask of a part of speech, 0 (no filter) when there are no options.
+     */
+    private static long categoryMask(SlugOptions options, PartsOfSpeech partOfSpeech) {
+        return options != null ? options.getCategoryMask(partOfSpeech) : 0L;
+    }
+
+    /**
+     * Resolves the part of speech at a position. An empty pattern falls back to the
+     * default: (n-1) adjectives + 1 noun.
+     */
+    private static PartsOfSpeech partOfSpeechAt(List<PartsOfSpeech> pattern, int position, int numberOfWords) {
+        if (!pattern.isEmpty()) {
+            return pattern.get(position);
+        }
+        return position < numberOfWords - 1 ? PartsOfSpeech.ADJECTIVE : PartsOfSpeech.NOUN;
+    }
+
+    /**
+     * Table or plan resolved by a recent call, with the database, options and word count it was resolved for.
+     */
+    private record Recent<T>(WordDatabase wordDatabase, SlugOptions options, int numberOfWords, T value) {
+        boolean matches(WordDatabase wordDatabase, SlugOptions options, int numberOfWords) {
+            return this.wordDatabase == wordDatabase && this.options == options && this.numberOfWords == numberOfWords;
+        }
+    }
+
+    /**
+     * Weighted blocklist table cache key; the unweighted table already stands for its candidate pools.
+     */
+    private record WeightedTableKey(BlocklistTable table, Map<Category, Double> categoryWeights) {
+    }
+
+    /**
+     * Candidate pool compared by identity, as the word database shares one list per filter,
+     * together with the category weights applied to it.
+     */
+    private record SamplerKey(List<WordForms> pool, Map<Category, Double> categoryWeights) {
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SamplerKey other && other.pool == pool && other.categoryWeights.equals(categoryWeights);
+        }
 
-        for (int i = 0; i < numberOfWords - 1; i++) {
-            pattern.add(PartsOfSpeech.ADJECTIVE);
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(pool) + categoryWeights.hashCode();
         }
-        pattern.add(PartsOfSpeech.NOUN);
-        return pattern;
     }
 }
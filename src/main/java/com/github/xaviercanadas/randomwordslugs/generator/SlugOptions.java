@@ -11,6 +11,7 @@ package com.github.xaviercanadas.randomwordslugs.generator;
 import com.github.xaviercanadas.randomwordslugs.model.Case;
 import com.github.xaviercanadas.randomwordslugs.model.Category;
 import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
 
 import java.util.*;
 
@@ -21,12 +22,30 @@ import java.util.*;
 public class SlugOptions {
     private final List<PartsOfSpeech> partsOfSpeech;
     private final Map<PartsOfSpeech, List<Category>> categories;
+
+    /**
+     * Category filter of each part of speech as a bitmask, indexed by ordinal.
+     */
+    private final long[] categoryMasks;
     private final Case format;
+    private final SlugFormat slugFormat;
+    private final Blocklist blocklist;
+    private final Map<Category, Double> categoryWeights;
+    private final IssuedSlugs issuedSlugs;
 
     private SlugOptions(Builder builder) {
         this.partsOfSpeech = builder.partsOfSpeech;
         this.categories = builder.categories;
         this.format = builder.format;
+        this.slugFormat = builder.slugFormat;
+        this.blocklist = builder.blocklist;
+        this.categoryWeights = builder.categoryWeights;
+        this.issuedSlugs = builder.issuedSlugs;
+
+        this.categoryMasks = new long[PartsOfSpeech.values().length];
+        for (Map.Entry<PartsOfSpeech, List<Category>> entry : categories.entrySet()) {
+            categoryMasks[entry.getKey().ordinal()] = Category.maskOf(entry.getValue());
+        }
     }
 
     public List<PartsOfSpeech> getPartsOfSpeech() {
@@ -37,10 +56,50 @@ public class SlugOptions {
         return categories;
     }
 
+    /**
+     * Category filter of a part of speech as a bitmask, see {@link Category#mask()}.
+     * Returns 0 when the part of speech is not filtered.
+     */
+    public long getCategoryMask(PartsOfSpeech partOfSpeech) {
+        return categoryMasks[partOfSpeech.ordinal()];
+    }
+
+    /**
+     * Output format as a {@link Case}, or null when a custom {@link SlugFormat} was set.
+     */
     public Case getFormat() {
         return format;
     }
 
+    /**
+     * Output format used to write slugs; always set, mapped from the {@link Case} if one was given.
+     */
+    public SlugFormat getSlugFormat() {
+        return slugFormat;
+    }
+
+    /**
+     * Blocklist applied to generated slugs, or null if none.
+     */
+    public Blocklist getBlocklist() {
+        return blocklist;
+    }
+
+    /**
+     * Selection weight multiplier of each boosted or demoted category; empty when words are only
+     * weighted by the vocabulary.
+     */
+    public Map<Category, Double> getCategoryWeights() {
+        return categoryWeights;
+    }
+
+    /**
+     * Set of slugs already issued, redrawn by random generation; null if slugs may repeat.
+     */
+    public IssuedSlugs getIssuedSlugs() {
+        return issuedSlugs;
+    }
+
     /**
      * Creates a new builder for SlugOptions.
      */
@@ -55,6 +114,10 @@ public class SlugOptions {
         private List<PartsOfSpeech> partsOfSpeech = new ArrayList<>();
         private Map<PartsOfSpeech, List<Category>> categories = new EnumMap<>(PartsOfSpeech.class);
         private Case format = Case.KEBAB;
+        private SlugFormat slugFormat = SlugFormat.KEBAB;
+        private Blocklist blocklist;
+        private Map<Category, Double> categoryWeights = new EnumMap<>(Category.class);
+        private IssuedSlugs issuedSlugs;
 
         /**
          * Sets the parts of speech pattern for word selection.
@@ -100,7 +163,49 @@ public class SlugOptions {
          * Sets the output format (default: KEBAB).
          */
         public Builder format(Case format) {
-            this.format = format;
+            this.format = Objects.requireNonNull(format, "format cannot be null");
+            this.slugFormat = format.toFormat();
+            return this;
+        }
+
+        /**
+         * Sets any output format, e.g. {@code SlugFormat.separatedBy("/")}.
+         */
+        public Builder format(SlugFormat format) {
+            this.slugFormat = Objects.requireNonNull(format, "format cannot be null");
+            this.format = null;
+            return this;
+        }
+
+        /**
+         * Sets terms that must not appear in generated slugs, in any format (default: none).
+         */
+        public Builder blocklist(Blocklist blocklist) {
+            this.blocklist = blocklist;
+            return this;
+        }
+
+        /**
+         * Multiplies the selection weight of the words of a category, e.g. 3 to make animals
+         * three times as likely or 0.5 to halve their chances (default: 1 for every category).
+         *
+         * @throws IllegalArgumentException if the multiplier is not a positive finite number
+         */
+        public Builder categoryWeight(Category category, double multiplier) {
+            Objects.requireNonNull(category, "category cannot be null");
+            if (!(multiplier > 0) || Double.isInfinite(multiplier)) {
+                throw new IllegalArgumentException("Category weight must be positive and finite");
+            }
+            this.categoryWeights.put(category, multiplier);
+            return this;
+        }
+
+        /**
+         * Makes random generation skip slugs recorded in the set, and record the ones it issues (default: none).
+         * The set is shared, not copied, so every generator and plan using these options dedupes against it.
+         */
+        public Builder issuedSlugs(IssuedSlugs issuedSlugs) {
+            this.issuedSlugs = issuedSlugs;
             return this;
         }
 
@@ -113,6 +218,10 @@ public class SlugOptions {
             immutableBuilder.partsOfSpeech = List.copyOf(this.partsOfSpeech);
             immutableBuilder.categories = Collections.unmodifiableMap(new EnumMap<>(this.categories));
             immutableBuilder.format = this.format;
+            immutableBuilder.slugFormat = this.slugFormat;
+            immutableBuilder.blocklist = this.blocklist;
+            immutableBuilder.categoryWeights = Collections.unmodifiableMap(new EnumMap<>(this.categoryWeights));
+            immutableBuilder.issuedSlugs = this.issuedSlugs;
 
             return new SlugOptions(immutableBuilder);
         }
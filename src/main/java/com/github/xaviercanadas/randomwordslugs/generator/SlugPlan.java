@@ -0,0 +1,541 @@
+/*
+ * SlugPlan.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compiled, reusable generation plan for a fixed configuration.
+ * Created by {@link SlugGenerator#compile(SlugOptions)}, it holds the candidate pool of every
+ * position, the output format and the number of combinations, so generating from it skips
+ * all per-call option resolution. Words are stored with their case forms precomputed and slugs
+ * are built in buffers presized to the longest possible slug. Immutable and thread-safe.
+ * <p>
+ * With a {@link Blocklist}, words are drawn from its precomputed tables, so every slug is clean.
+ * Combination counts still include blocked slugs, so they are an upper bound.
+ * <p>
+ * When words or categories are weighted, each weighted pool gets an {@link AliasTable} at compile time,
+ * so weighted picks stay O(1). With a blocklist too, every position and automaton state gets one over its
+ * allowed words, so a weighted pick never lands on a blocked word.
+ * <p>
+ * With {@link IssuedSlugs}, random slugs already in the set are redrawn, so random generation never repeats.
+ */
+public final class SlugPlan {
+    private final WordForms[][] pools;
+    private final List<List<WordForms>> poolLists;
+    private final Case caseStyle;
+    private final SlugFormat format;
+    private final RandomSource randomSource;
+    private final BlocklistTable blocklistTable;
+    private final IssuedSlugs issuedSlugs;
+
+    /**
+     * Metrics of the generator that compiled this plan, or null to report to the installed default.
+     */
+    private final SlugMetrics metrics;
+
+    /**
+     * Weighted sampler of each position, null entries for uniform pools; null when every pool is uniform.
+     */
+    private final AliasTable[] samplers;
+    private final long combinations;
+    private final int maxLength;
+
+    /**
+     * @param weights selection weights of each pool, or null for uniform selection
+     * @param issuedSlugs slugs never to issue again, or null
+     * @param metrics metrics to report to, or null for the installed default
+     */
+    SlugPlan(WordForms[][] pools, Case caseStyle, SlugFormat format, RandomSource randomSource, Blocklist blocklist,
+             double[][] weights, IssuedSlugs issuedSlugs, SlugMetrics metrics) {
+        this.pools = pools;
+        this.poolLists = poolLists(pools);
+        this.caseStyle = caseStyle;
+        this.format = format;
+        this.randomSource = randomSource;
+        this.samplers = weights != null ? samplersOf(weights) : null;
+        BlocklistTable table = blocklist != null ? new BlocklistTable(blocklist, poolLists, format.separator()) : null;
+        this.blocklistTable = table != null && samplers != null ? table.weighted(samplers) : table;
+        this.issuedSlugs = issuedSlugs;
+        this.metrics = metrics;
+        this.combinations = combinationsOf(pools);
+        this.maxLength = maxLengthOf(pools, format);
+    }
+
+    /**
+     * Generates the next random slug of this plan.
+     *
+     * @return generated slug
+     */
+    public String next() {
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        String slug = SlugBuffers.release(appendRandom(acquireBuffer(), randomSource.current(), metrics));
+        recordGeneration(metrics, start);
+        return slug;
+    }
+
+    /**
+     * Deterministically maps a key to a slug of this plan.
+     * The same key, plan and vocabulary always give the same slug, on any node.
+     *
+     * @param key input key, e.g. a row id
+     * @return slug for the key
+     */
+    public String fromKey(long key) {
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        String slug = SlugBuffers.release(appendKeyed(acquireBuffer(), Hashing.mix64(key)));
+        recordGeneration(metrics, start);
+        return slug;
+    }
+
+    /**
+     * Deterministically maps a byte key, e.g. the 16 bytes of a UUID, to a slug of this plan.
+     *
+     * @param key input key
+     * @return slug for the key
+     */
+    public String fromBytes(byte[] key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        String slug = SlugBuffers.release(appendKeyed(acquireBuffer(), Hashing.hashBytes(key)));
+        recordGeneration(metrics, start);
+        return slug;
+    }
+
+    /**
+     * Generates many slugs in one call.
+     *
+     * @param count number of slugs to generate
+     * @return unmodifiable list of generated slugs
+     */
+    public List<String> generateBatch(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+
+        String[] slugs = new String[count];
+        generateBatch(slugs, 0, count);
+        return Collections.unmodifiableList(Arrays.asList(slugs));
+    }
+
+    /**
+     * Fills a caller-provided array with generated slugs, drawing all of them from one random generator.
+     *
+     * @param target array to fill
+     * @param offset index of the first slot to fill
+     * @param count number of slugs to generate
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public void generateBatch(String[] target, int offset, int count) {
+        Objects.checkFromIndexSize(offset, count, target.length);
+
+        SlugMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        RandomGenerator random = randomSource.current();
+        StringBuilder slug = new StringBuilder(maxLength);
+
+        for (int n = offset, end = offset + count; n < end; n++) {
+            slug.setLength(0);
+            target[n] = appendRandom(slug, random, metrics).toString();
+        }
+        if (metrics != null && count > 0) {
+            metrics.recordGenerations(caseStyle, pools.length, count, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns an infinite, lazily generated stream of slugs.
+     * The stream can be made {@code parallel()} and should be bounded with {@code limit()}.
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(new SlugSpliterator(this, Long.MAX_VALUE), false);
+    }
+
+    /**
+     * Returns an endless iterator of lazily generated slugs. The iterator is not thread-safe.
+     */
+    public Iterator<String> iterator() {
+        return Spliterators.iterator(new SlugSpliterator(this, Long.MAX_VALUE));
+    }
+
+    /**
+     * Returns a publisher of an endless supply of slugs that honours backpressure.
+     * Slugs are generated on the executor, in batches of up to {@code batchSize}, only for outstanding demand.
+     *
+     * @param batchSize maximum number of slugs generated at once
+     * @param executor executor running generation, e.g. one starting virtual threads
+     * @return publisher that never completes; subscribers cancel when they have enough
+     */
+    public Flow.Publisher<String> publisher(int batchSize, Executor executor) {
+        return new SlugPublisher(this, batchSize, executor);
+    }
+
+    /**
+     * Whether random slugs of this plan are recorded in an {@link IssuedSlugs} set as they are generated.
+     */
+    boolean recordsIssued() {
+        return issuedSlugs != null;
+    }
+
+    /**
+     * Creates a sequence that issues every slug of this plan exactly once, in an order fully
+     * determined by the key. Weights do not apply, as every combination is issued once.
+     *
+     * @param key permutation key
+     * @return a new unique slug sequence
+     */
+    public UniqueSlugSequence uniqueSequence(long key) {
+        return new UniqueSlugSequence(this, key);
+    }
+
+    /**
+     * Creates a sequence that issues one node's stripe of the slugs of this plan, each exactly once.
+     * Sequences created with the same key on every node of a cluster issue disjoint slugs,
+     * with no coordination or shared state.
+     *
+     * @param key permutation key, the same on every node
+     * @param nodeId index of this node, in {@code [0, nodeCount)}
+     * @param nodeCount number of nodes sharing the space
+     * @return a new unique slug sequence over this node's stripe
+     * @throws IllegalArgumentException if the node id or count is out of range
+     */
+    public UniqueSlugSequence uniqueSequence(long key, int nodeId, int nodeCount) {
+        return new UniqueSlugSequence(this, key, nodeId, nodeCount);
+    }
+
+    /**
+     * Opens a sequence over one node's stripe that keeps its state in a checkpoint file, so it resumes
+     * after a restart without reissuing any slug. A missing file is created with the given key;
+     * an existing one is resumed only if it was created with the same key, stripe and candidate words.
+     * <p>
+     * Positions are leased {@code leaseSize} at a time and the file is synced once per lease,
+     * so larger leases cost fewer syncs but give up more unissued slugs after a crash.
+     *
+     * @param key permutation key, the one the checkpoint was created with when resuming
+     * @param nodeId index of this node, in {@code [0, nodeCount)}
+     * @param nodeCount number of nodes sharing the space
+     * @param checkpoint file holding the state of the sequence
+     * @param leaseSize number of positions leased per sync
+     * @return a new unique slug sequence, to be closed when done
+     * @throws IllegalArgumentException if the node or lease size is out of range
+     * @throws IllegalStateException if the checkpoint belongs to another stripe, configuration or key, or is in use
+     * @throws IOException if the checkpoint cannot be read or created
+     */
+    public UniqueSlugSequence uniqueSequence(long key, int nodeId, int nodeCount, Path checkpoint, int leaseSize)
+            throws IOException {
+        Objects.requireNonNull(checkpoint, "checkpoint cannot be null");
+        return UniqueSlugSequence.open(this, key, true, nodeId, nodeCount, checkpoint, leaseSize);
+    }
+
+    /**
+     * Number of words of every slug of this plan.
+     */
+    public int getNumberOfWords() {
+        return pools.length;
+    }
+
+    /**
+     * Output format as a {@link Case}, or null when the plan uses a custom {@link SlugFormat}.
+     */
+    public Case getFormat() {
+        return caseStyle;
+    }
+
+    public SlugFormat getSlugFormat() {
+        return format;
+    }
+
+    /**
+     * Total number of unique slugs this plan can produce, saturated at {@link Long#MAX_VALUE}.
+     */
+    public long getCombinations() {
+        return combinations;
+    }
+
+    /**
+     * Exact total number of unique slugs this plan can produce.
+     */
+    public BigInteger getCombinationsExact() {
+        BigInteger combinations = BigInteger.ONE;
+        for (WordForms[] pool : pools) {
+            combinations = combinations.multiply(BigInteger.valueOf(pool.length));
+        }
+        return combinations;
+    }
+
+    /**
+     * Entropy of a slug of this plan in bits, i.e. log2 of the number of combinations.
+     */
+    public double getEntropyBits() {
+        double bits = 0;
+        for (WordForms[] pool : pools) {
+            bits += Math.log(pool.length) / Math.log(2);
+        }
+        return bits;
+    }
+
+    RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    /**
+     * Length of the longest slug this plan can produce, separators included.
+     */
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Per-thread buffer with room for any slug of this plan.
+     */
+    StringBuilder acquireBuffer() {
+        StringBuilder slug = SlugBuffers.acquire();
+        slug.ensureCapacity(maxLength);
+        return slug;
+    }
+
+    /**
+     * Number of candidates at a position.
+     */
+    int radix(int position) {
+        return pools[position].length;
+    }
+
+    /**
+     * Appends a slug with a random word at every position.
+     */
+    StringBuilder appendRandom(StringBuilder slug, RandomGenerator random, SlugMetrics metrics) {
+        if (issuedSlugs != null) {
+            return appendIndexed(slug, drawUnissued(poolLists, samplers, blocklistTable, issuedSlugs, random, metrics,
+                    null, 0));
+        }
+        if (blocklistTable == null && samplers == null) {
+            for (int i = 0; i < pools.length; i++) {
+                WordForms[] pool = pools[i];
+                format.appendWord(slug, pool[random.nextInt(pool.length)], i);
+            }
+            return slug;
+        }
+
+        int state = 0;
+        for (int i = 0; i < pools.length; i++) {
+            WordForms word = pools[i][randomIndex(pools[i].length, samplerAt(i), blocklistTable, i, state, random)];
+            if (blocklistTable != null) {
+                state = blocklistTable.next(state, i, word);
+            }
+            format.appendWord(slug, word, i);
+        }
+        return slug;
+    }
+
+    /**
+     * Draws word indexes until they form a slug not yet issued, and records it. Shared with {@link SlugGenerator}.
+     * A draw longer than the capacity is returned as null before being recorded, so it does not use up a slug.
+     *
+     * @param samplers weighted sampler of each position, or null when every pool is uniform
+     * @param table blocklist table, or null without a blocklist
+     * @param format format to measure the UTF-8 length of a draw in, or null for no capacity
+     * @param capacity number of bytes the slug must fit in, ignored without a format
+     * @return word indexes of the new slug, or null if it does not fit
+     * @throws SlugSpaceExhaustedException if no new slug turns up in {@link IssuedSlugs#MAX_DRAWS} draws
+     */
+    static int[] drawUnissued(List<? extends List<WordForms>> pools, AliasTable[] samplers, BlocklistTable table,
+                              IssuedSlugs issuedSlugs, RandomGenerator random, SlugMetrics metrics,
+                              SlugFormat format, int capacity) {
+        int[] wordIndexes = new int[pools.size()];
+        for (int draw = 0; draw < IssuedSlugs.MAX_DRAWS; draw++) {
+            int state = 0;
+            long key = 0;
+            int length = 0;
+            for (int i = 0; i < wordIndexes.length; i++) {
+                List<WordForms> pool = pools.get(i);
+                AliasTable sampler = samplers != null ? samplers[i] : null;
+                wordIndexes[i] = randomIndex(pool.size(), sampler, table, i, state, random);
+                WordForms word = pool.get(wordIndexes[i]);
+                if (table != null) {
+                    state = table.next(state, i, word);
+                }
+                if (format != null) {
+                    length += format.encodedLength(word, i);
+                }
+                key = IssuedSlugs.pack(key, pool.size(), wordIndexes[i]);
+            }
+            if (format != null && length > capacity) {
+                IssuedSlugs.recordRedraws(metrics, draw);
+                return null;
+            }
+            if (issuedSlugs.add(key)) {
+                IssuedSlugs.recordRedraws(metrics, draw);
+                return wordIndexes;
+            }
+        }
+        throw IssuedSlugs.exhausted(metrics, issuedSlugs);
+    }
+
+    /**
+     * Appends the slug whose word indexes are derived from a key hash.
+     */
+    StringBuilder appendKeyed(StringBuilder slug, long hash) {
+        int state = 0;
+        for (int i = 0; i < pools.length; i++) {
+            WordForms word = pools[i][keyedIndex(pools[i].length, samplerAt(i), blocklistTable, i, state, hash)];
+            if (blocklistTable != null) {
+                state = blocklistTable.next(state, i, word);
+            }
+            format.appendWord(slug, word, i);
+        }
+        return slug;
+    }
+
+    /**
+     * Appends the slug with the given word index at every position.
+     */
+    StringBuilder appendIndexed(StringBuilder slug, int[] wordIndexes) {
+        for (int i = 0; i < pools.length; i++) {
+            format.appendWord(slug, pools[i][wordIndexes[i]], i);
+        }
+        return slug;
+    }
+
+    /**
+     * Tells whether the slug with the given word indexes contains a term of the blocklist.
+     */
+    boolean isBlocked(int[] wordIndexes) {
+        return blocklistTable != null && blocklistTable.isBlocked(pools, wordIndexes);
+    }
+
+    /**
+     * Picks a random word index of a position, shared with {@link SlugGenerator}.
+     * With a blocklist, the pick is made among the allowed words only, by the table's own samplers
+     * when it is {@link BlocklistTable#weighted}, so it takes one draw whatever the blocklist rules out.
+     *
+     * @param sampler weighted sampler of the pool, or null for a uniform pick; unused with a table
+     * @param table blocklist table, weighted like the pools, or null without a blocklist
+     * @param state blocklist automaton state before this position
+     */
+    static int randomIndex(int size, AliasTable sampler, BlocklistTable table, int position, int state,
+                           RandomGenerator random) {
+        if (table != null) {
+            AliasTable allowedSampler = table.sampler(position, state);
+            int rank = allowedSampler != null ? allowedSampler.sample(random.nextLong())
+                    : random.nextInt(table.count(position, state));
+            return table.select(position, state, rank);
+        }
+        return sampler != null ? sampler.sample(random.nextLong()) : random.nextInt(size);
+    }
+
+    /**
+     * Derives the word index of a position from a key hash, like {@link #randomIndex} but deterministic.
+     */
+    static int keyedIndex(int size, AliasTable sampler, BlocklistTable table, int position, int state, long hash) {
+        if (table != null) {
+            AliasTable allowedSampler = table.sampler(position, state);
+            int rank = allowedSampler != null ? allowedSampler.sample(Hashing.positionHash(hash, position))
+                    : Hashing.indexAt(hash, position, table.count(position, state));
+            return table.select(position, state, rank);
+        }
+        return sampler != null ? sampler.sample(Hashing.positionHash(hash, position))
+                : Hashing.indexAt(hash, position, size);
+    }
+
+    /**
+     * Hash of the candidate words of every position, in order, which fix the slug at each position of
+     * a unique sequence. Checkpoints store it to refuse resuming over other words.
+     */
+    long fingerprint() {
+        long hash = pools.length;
+        for (WordForms[] pool : pools) {
+            hash = Hashing.mix64(hash + pool.length);
+            for (WordForms word : pool) {
+                hash = Hashing.mix64(hash + word.getLower().hashCode());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Metrics of one call: those of the compiling generator, or else the installed default, read once.
+     */
+    SlugMetrics metrics() {
+        return metrics != null ? metrics : SlugMetrics.installed();
+    }
+
+    /**
+     * Reports one slug of this plan, generated since {@code start}, to the call's metrics if any.
+     */
+    void recordGeneration(SlugMetrics metrics, long start) {
+        if (metrics != null) {
+            metrics.recordGeneration(caseStyle, pools.length, System.nanoTime() - start);
+        }
+    }
+
+    private AliasTable samplerAt(int position) {
+        return samplers != null ? samplers[position] : null;
+    }
+
+    private static AliasTable[] samplersOf(double[][] weights) {
+        AliasTable[] samplers = new AliasTable[weights.length];
+        boolean weighted = false;
+        for (int i = 0; i < weights.length; i++) {
+            samplers[i] = AliasTable.of(weights[i]);
+            weighted |= samplers[i] != null;
+        }
+        return weighted ? samplers : null;
+    }
+
+    private static List<List<WordForms>> poolLists(WordForms[][] pools) {
+        List<List<WordForms>> lists = new ArrayList<>(pools.length);
+        for (WordForms[] pool : pools) {
+            lists.add(Arrays.asList(pool));
+        }
+        return lists;
+    }
+
+    /**
+     * Longest word of every position plus a separator between words.
+     */
+    private static int maxLengthOf(WordForms[][] pools, SlugFormat format) {
+        int length = Math.max(pools.length - 1, 0) * format.separatorLength();
+        for (WordForms[] pool : pools) {
+            int longest = 0;
+            for (WordForms word : pool) {
+                longest = Math.max(longest, word.getMaxLength());
+            }
+            length += longest;
+        }
+        return length;
+    }
+
+    private static long combinationsOf(WordForms[][] pools) {
+        long combinations = 1;
+        for (WordForms[] pool : pools) {
+            if (combinations > Long.MAX_VALUE / pool.length) {
+                return Long.MAX_VALUE;
+            }
+            combinations *= pool.length;
+        }
+        return combinations;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SlugPublisher.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher of an endless supply of slugs from a compiled plan, honouring backpressure.
+ * <p>
+ * Each subscriber gets its own subscription: slugs are only generated for outstanding demand, in
+ * batches of up to {@code batchSize}, on the given executor. Signals to a subscriber are never
+ * concurrent, and no lock is taken, so it runs on virtual threads without pinning their carriers.
+ * The stream never completes; subscribers cancel when they have enough. When the plan records issued
+ * slugs, each slug is generated just before it is sent, so a cancel never burns slugs nobody received.
+ */
+final class SlugPublisher implements Flow.Publisher<String> {
+    private final SlugPlan plan;
+    private final int batchSize;
+    private final Executor executor;
+
+    SlugPublisher(SlugPlan plan, int batchSize, Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.plan = plan;
+        this.batchSize = batchSize;
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        subscriber.onSubscribe(new Subscription(subscriber));
+    }
+
+    private final class Subscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super String> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * Drain passes still to run; only the thread that raises it from 0 drains, so signals are serialized.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private String[] batch;
+
+        Subscription(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " slugs, must be positive");
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            try {
+                do {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (invalidRequest != null) {
+                        cancelled = true;
+                        subscriber.onError(invalidRequest);
+                        return;
+                    }
+
+                    long demand = requested.get();
+                    long emitted = 0;
+                    while (emitted != demand && !cancelled) {
+                        int count = (int) Math.min(batchSize, demand - emitted);
+                        emitBatch(count);
+                        emitted += count;
+                    }
+                    if (demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                    missed = pending.addAndGet(-missed);
+                } while (missed != 0);
+            } catch (RuntimeException e) {
+                cancelled = true;
+                subscriber.onError(e);
+            }
+        }
+
+        private void emitBatch(int count) {
+            if (plan.recordsIssued()) {
+                // Generating marks a slug as issued, so generate no further ahead than the subscriber reads
+                for (int i = 0; i < count && !cancelled; i++) {
+                    subscriber.onNext(plan.next());
+                }
+                return;
+            }
+            if (batch == null) {
+                batch = new String[batchSize];
+            }
+            plan.generateBatch(batch, 0, count);
+            for (int i = 0; i < count && !cancelled; i++) {
+                subscriber.onNext(batch[i]);
+                batch[i] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SlugSpaceExhaustedException.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+/**
+ * Thrown when every unique slug of a configuration has already been issued, or when random generation
+ * with {@link IssuedSlugs} gives up after too many consecutive draws of slugs the set rejects.
+ */
+public class SlugSpaceExhaustedException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final long capacity;
+    private final int failedDraws;
+
+    /**
+     * Reports a unique sequence that has issued all of its slugs.
+     *
+     * @param capacity number of unique slugs the sequence could issue
+     */
+    public SlugSpaceExhaustedException(long capacity) {
+        super("All " + capacity + " unique slugs for this configuration have been issued");
+        this.capacity = capacity;
+        this.failedDraws = 0;
+    }
+
+    /**
+     * Reports random generation that drew only rejected slugs. The space need not be used up: the draws are,
+     * and with an approximate set some rejections are false.
+     *
+     * @param recorded number of slugs the issued set has recorded
+     * @param failedDraws number of consecutive draws the set rejected
+     */
+    public SlugSpaceExhaustedException(long recorded, int failedDraws) {
+        super("Gave up after " + failedDraws + " consecutive draws rejected as already issued, with " + recorded
+                + " slugs recorded; unissued slugs of this configuration may remain");
+        this.capacity = recorded;
+        this.failedDraws = failedDraws;
+    }
+
+    /**
+     * Number of unique slugs the exhausted sequence could issue. When random generation gave up,
+     * see {@link #getFailedDraws()}, it is instead the number of slugs the issued set had recorded,
+     * which may be less than the number of combinations.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of consecutive rejected draws after which random generation gave up, or 0 for an exhausted
+     * unique sequence.
+     */
+    public int getFailedDraws() {
+        return failedDraws;
+    }
+}
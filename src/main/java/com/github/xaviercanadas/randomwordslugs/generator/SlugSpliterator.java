@@ -0,0 +1,61 @@
+/*
+ * SlugSpliterator.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Unordered spliterator over an endless supply of slugs drawn from a compiled plan.
+ * Splits share the plan and query its random source from the thread running them, so parallel
+ * streams split across the fork-join pool without contending on one generator.
+ */
+final class SlugSpliterator implements Spliterator<String> {
+    private final SlugPlan plan;
+    private final StringBuilder buffer;
+    private long estimate;
+
+    SlugSpliterator(SlugPlan plan, long estimate) {
+        this.plan = plan;
+        this.buffer = new StringBuilder(plan.getMaxLength());
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        SlugMetrics metrics = plan.metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        buffer.setLength(0);
+        String slug = plan.appendRandom(buffer, plan.getRandomSource().current(), metrics).toString();
+        plan.recordGeneration(metrics, start);
+        action.accept(slug);
+        return true;
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        if (estimate < 2) {
+            return null;
+        }
+        estimate >>>= 1;
+        return new SlugSpliterator(plan, estimate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return IMMUTABLE | NONNULL;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SplittingRandomSource.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random source that lazily splits one generator per thread from a shared root.
+ * The root is only touched, under a lock, the first time a thread asks for its generator.
+ */
+final class SplittingRandomSource implements RandomSource {
+    private final RandomGenerator.SplittableGenerator root;
+    private final ReentrantLock rootLock = new ReentrantLock();
+    private final ThreadLocal<RandomGenerator> perThread = ThreadLocal.withInitial(this::splitRoot);
+
+    SplittingRandomSource(RandomGenerator.SplittableGenerator root) {
+        this.root = Objects.requireNonNull(root, "root cannot be null");
+    }
+
+    @Override
+    public RandomGenerator current() {
+        return perThread.get();
+    }
+
+    private RandomGenerator splitRoot() {
+        rootLock.lock();
+        try {
+            return root.split();
+        } finally {
+            rootLock.unlock();
+        }
+    }
+}
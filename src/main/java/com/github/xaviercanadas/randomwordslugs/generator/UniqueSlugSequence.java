@@ -0,0 +1,183 @@
+/*
+ * UniqueSlugSequence.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.generator;
+
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues every slug of a configuration exactly once, in pseudo-random order.
+ * <p>
+ * Each combination is a mixed-radix number with one digit (word index) per position.
+ * A counter is mapped through a keyed permutation of that index space and the result is
+ * decoded into words, so each slug costs O(1) time and the sequence needs O(1) memory.
+ * Spaces larger than 2^62 combinations are capped at 2^62 slugs.
+ * With a {@link Blocklist}, blocked combinations are skipped, so the capacity is an upper bound.
+ * <p>
+ * A sequence may cover only one stripe of the space: node {@code nodeId} of {@code nodeCount} issues the
+ * permuted positions {@code nodeId}, {@code nodeId + nodeCount}, {@code nodeId + 2 * nodeCount}, and so on.
+ * Nodes sharing the key and configuration therefore never issue the same slug, without any coordination.
+ * <p>
+ * A sequence opened on a checkpoint file survives restarts: the key, the stripe, a fingerprint of the
+ * candidate words and the position are kept in the file, and positions are leased in blocks so the file
+ * is synced once per block rather than per slug.
+ * After a crash the sequence resumes past the last leased block, so the rest of that block is never issued.
+ * Close such a sequence to release its file. Thread-safe.
+ */
+public final class UniqueSlugSequence implements AutoCloseable {
+    private final SlugPlan plan;
+    private final FeistelPermutation permutation;
+    private final int nodeId;
+    private final int nodeCount;
+    private final long capacity;
+    private final SequenceCheckpoint checkpoint;
+    private final AtomicLong counter;
+
+    UniqueSlugSequence(SlugPlan plan, long key) {
+        this(plan, key, 0, 1);
+    }
+
+    UniqueSlugSequence(SlugPlan plan, long key, int nodeId, int nodeCount) {
+        this(plan, key, nodeId, nodeCount, null);
+    }
+
+    private UniqueSlugSequence(SlugPlan plan, long key, int nodeId, int nodeCount, SequenceCheckpoint checkpoint) {
+        checkNode(nodeId, nodeCount);
+        this.plan = plan;
+        this.permutation = new FeistelPermutation(spaceSize(plan), key);
+        this.nodeId = nodeId;
+        this.nodeCount = nodeCount;
+        this.capacity = stripeSize(permutation.size(), nodeId, nodeCount);
+        this.checkpoint = checkpoint;
+        this.counter = new AtomicLong(checkpoint == null ? 0 : checkpoint.start());
+    }
+
+    /**
+     * Opens a sequence that keeps its state in a checkpoint file, resuming it if the file exists.
+     *
+     * @param key permutation key of a created checkpoint
+     * @param requireKey whether a resumed checkpoint must have been created with this key,
+     *                   rather than resuming with its own
+     */
+    static UniqueSlugSequence open(SlugPlan plan, long key, boolean requireKey, int nodeId, int nodeCount,
+                                   Path file, int leaseSize) throws IOException {
+        checkNode(nodeId, nodeCount);
+        long spaceSize = spaceSize(plan);
+        SequenceCheckpoint checkpoint = SequenceCheckpoint.open(file, key, requireKey, nodeId, nodeCount,
+                spaceSize, plan.fingerprint(), stripeSize(spaceSize, nodeId, nodeCount), leaseSize);
+        return new UniqueSlugSequence(plan, checkpoint.key(), nodeId, nodeCount, checkpoint);
+    }
+
+    /**
+     * Returns the next unique slug.
+     *
+     * @throws SlugSpaceExhaustedException if every slug has already been issued
+     */
+    public String next() {
+        SlugMetrics metrics = plan.metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        int[] wordIndexes = new int[plan.getNumberOfWords()];
+        int retries = -1;
+        do {
+            long issued = counter.getAndIncrement();
+            if (issued >= capacity) {
+                if (metrics != null) {
+                    // Every combination decoded by this call was blocked
+                    if (retries >= 0) {
+                        metrics.recordUniqueRetries(retries + 1);
+                    }
+                    metrics.recordExhaustion(capacity);
+                }
+                throw new SlugSpaceExhaustedException(capacity);
+            }
+            if (checkpoint != null) {
+                checkpoint.lease(issued);
+            }
+            decode(permutation.permute(nodeId + issued * nodeCount), wordIndexes);
+            retries++;
+        } while (plan.isBlocked(wordIndexes));
+
+        if (metrics != null && retries > 0) {
+            metrics.recordUniqueRetries(retries);
+        }
+
+        String slug = SlugBuffers.release(plan.appendIndexed(plan.acquireBuffer(), wordIndexes));
+        plan.recordGeneration(metrics, start);
+        return slug;
+    }
+
+    /**
+     * Total number of slugs this sequence can issue, i.e. the size of its stripe.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of slugs still available.
+     */
+    public long remaining() {
+        return Math.max(0, capacity - counter.get());
+    }
+
+    /**
+     * Stripe of the space this sequence covers, 0 when it covers the whole space.
+     */
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Number of stripes the space is split into, 1 when this sequence covers the whole space.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Releases the checkpoint file, if any. The leased positions not yet issued are given up.
+     */
+    @Override
+    public void close() throws IOException {
+        if (checkpoint != null) {
+            checkpoint.close();
+        }
+    }
+
+    private static void checkNode(int nodeId, int nodeCount) {
+        if (nodeCount <= 0) {
+            throw new IllegalArgumentException("Node count must be positive");
+        }
+        if (nodeId < 0 || nodeId >= nodeCount) {
+            throw new IllegalArgumentException("Node id must be in [0, " + nodeCount + "): " + nodeId);
+        }
+    }
+
+    private static long spaceSize(SlugPlan plan) {
+        return Math.min(plan.getCombinations(), FeistelPermutation.MAX_SIZE);
+    }
+
+    private static long stripeSize(long spaceSize, int nodeId, int nodeCount) {
+        return spaceSize > nodeId ? (spaceSize - nodeId - 1) / nodeCount + 1 : 0;
+    }
+
+    /**
+     * Decodes a mixed-radix index into word indexes, last position being the least significant digit.
+     */
+    private void decode(long index, int[] wordIndexes) {
+        for (int i = wordIndexes.length - 1; i >= 0; i--) {
+            int radix = plan.radix(i);
+            wordIndexes[i] = (int) (index % radix);
+            index /= radix;
+        }
+    }
+}
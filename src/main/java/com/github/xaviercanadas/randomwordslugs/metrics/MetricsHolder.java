@@ -0,0 +1,19 @@
+/*
+ * MetricsHolder.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.metrics;
+
+/**
+ * Process-wide slot of the installed {@link SlugMetrics}, see {@link SlugMetrics#install(SlugMetrics)}.
+ */
+final class MetricsHolder {
+    static volatile SlugMetrics installed;
+
+    private MetricsHolder() {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * MicrometerSlugMetrics.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.metrics;
+
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link SlugMetrics} adapter publishing to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Micrometer is an optional dependency: this class is only loaded when it is used, so applications
+ * without Micrometer on the classpath are unaffected. Published meters:
+ * <ul>
+ *     <li>{@code slugs.generated}: timer with a percentile histogram, tagged by {@code case} and {@code words}</li>
+ *     <li>{@code slugs.pool.lookups}: counter tagged by {@code pos} and {@code result} ({@code hit} or {@code miss})</li>
+ *     <li>{@code slugs.unique.retries}: counter of combinations skipped by unique sequences or redrawn
+ *     because {@code IssuedSlugs} had seen them</li>
+ *     <li>{@code slugs.unique.exhausted}: counter of unique sequences and deduplicating generators that ran
+ *     out of slugs</li>
+ * </ul>
+ * <pre>{@code
+ * SlugGenerator generator = new SlugGenerator(WordDatabase::getDefault, RandomSource.threadLocal(),
+ *         new MicrometerSlugMetrics(meterRegistry));
+ * }</pre>
+ */
+public final class MicrometerSlugMetrics implements SlugMetrics {
+    /**
+     * Timers of slugs up to this many words are cached, longer ones are looked up in the registry.
+     */
+    private static final int CACHED_WORD_COUNTS = 16;
+    private static final Case[] CASES = Case.values();
+
+    private final MeterRegistry registry;
+
+    /**
+     * Generation timers by case (custom formats last) and word count, registered on first use.
+     */
+    private final AtomicReferenceArray<Timer> timers =
+            new AtomicReferenceArray<>((CASES.length + 1) * CACHED_WORD_COUNTS);
+    private final Counter[] poolHits;
+    private final Counter[] poolMisses;
+    private final Counter uniqueRetries;
+    private final Counter exhaustions;
+
+    public MicrometerSlugMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+
+        PartsOfSpeech[] partsOfSpeech = PartsOfSpeech.values();
+        this.poolHits = new Counter[partsOfSpeech.length];
+        this.poolMisses = new Counter[partsOfSpeech.length];
+        for (PartsOfSpeech partOfSpeech : partsOfSpeech) {
+            poolHits[partOfSpeech.ordinal()] = poolCounter(partOfSpeech, "hit");
+            poolMisses[partOfSpeech.ordinal()] = poolCounter(partOfSpeech, "miss");
+        }
+        this.uniqueRetries = Counter.builder("slugs.unique.retries")
+                .description("Combinations skipped by unique sequences or redrawn as already issued")
+                .register(registry);
+        this.exhaustions = Counter.builder("slugs.unique.exhausted")
+                .description("Unique sequences and deduplicating generators that ran out of slugs")
+                .register(registry);
+    }
+
+    @Override
+    public void recordGeneration(Case format, int numberOfWords, long durationNanos) {
+        timer(format, numberOfWords).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPoolLookup(PartsOfSpeech partOfSpeech, boolean hit) {
+        (hit ? poolHits : poolMisses)[partOfSpeech.ordinal()].increment();
+    }
+
+    @Override
+    public void recordUniqueRetries(int retries) {
+        uniqueRetries.increment(retries);
+    }
+
+    @Override
+    public void recordExhaustion(long capacity) {
+        exhaustions.increment();
+    }
+
+    private Timer timer(Case format, int numberOfWords) {
+        if (numberOfWords >= CACHED_WORD_COUNTS) {
+            return registerTimer(format, numberOfWords);
+        }
+        int slot = (format != null ? format.ordinal() : CASES.length) * CACHED_WORD_COUNTS + numberOfWords;
+        Timer timer = timers.get(slot);
+        if (timer == null) {
+            // Micrometer returns the same timer for the same name and tags, so racing threads agree
+            timer = registerTimer(format, numberOfWords);
+            timers.set(slot, timer);
+        }
+        return timer;
+    }
+
+    private Timer registerTimer(Case format, int numberOfWords) {
+        return Timer.builder("slugs.generated")
+                .description("Time spent generating a slug")
+                .tag("case", format != null ? format.name().toLowerCase(Locale.ROOT) : "custom")
+                .tag("words", Integer.toString(numberOfWords))
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter poolCounter(PartsOfSpeech partOfSpeech, String result) {
+        return Counter.builder("slugs.pool.lookups")
+                .description("Candidate word lookups of category filters")
+                .tag("pos", partOfSpeech.name().toLowerCase(Locale.ROOT))
+                .tag("result", result)
+                .register(registry);
+    }
+}
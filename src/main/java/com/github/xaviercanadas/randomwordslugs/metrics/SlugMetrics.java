@@ -0,0 +1,98 @@
+/*
+ * SlugMetrics.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.metrics;
+
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import java.util.Objects;
+
+/**
+ * Receiver of generation metrics, for wiring the library into a monitoring system.
+ * <p>
+ * Pass an implementation to a {@code SlugGenerator} constructor to measure that generator and the plans and
+ * sequences it creates, or install a process-wide default with {@link #install(SlugMetrics)} for generators
+ * created without one. Instrumented calls resolve the metrics once: a generator with its own metrics pays no
+ * volatile read, one falling back to the default pays one. Implementations are called on the generating threads,
+ * so they must be thread-safe and cheap. Every method does nothing by default, so an implementation only
+ * overrides what it tracks. {@link MicrometerSlugMetrics} adapts these events to a Micrometer registry.
+ */
+public interface SlugMetrics {
+
+    /**
+     * Records one slug generated by a {@code SlugGenerator} or {@code SlugPlan} call.
+     *
+     * @param format output case of the slug, or null for a custom {@code SlugFormat}
+     * @param numberOfWords number of words of the slug
+     * @param durationNanos time spent generating it
+     */
+    default void recordGeneration(Case format, int numberOfWords, long durationNanos) {
+    }
+
+    /**
+     * Records slugs generated together, by a batch, so the clock is read once for all of them.
+     * By default each slug is recorded with the average duration.
+     *
+     * @param format output case of the slugs, or null for a custom {@code SlugFormat}
+     * @param numberOfWords number of words of every slug
+     * @param count number of slugs generated
+     * @param durationNanos time spent generating all of them
+     */
+    default void recordGenerations(Case format, int numberOfWords, int count, long durationNanos) {
+        for (int i = 0; i < count; i++) {
+            recordGeneration(format, numberOfWords, durationNanos / count);
+        }
+    }
+
+    /**
+     * Records a lookup of the candidate words of a category filter in a {@code WordDatabase}.
+     *
+     * @param hit true if the candidates were already cached, false if they had to be built
+     */
+    default void recordPoolLookup(PartsOfSpeech partOfSpeech, boolean hit) {
+    }
+
+    /**
+     * Records combinations drawn but not issued before the next slug: skipped by a unique sequence because
+     * the blocklist rules them out, or redrawn by random generation because {@code IssuedSlugs} had seen them.
+     */
+    default void recordUniqueRetries(int retries) {
+    }
+
+    /**
+     * Records a unique sequence, or a random generator deduplicating with {@code IssuedSlugs}, that ran out of slugs.
+     *
+     * @param capacity number of slugs that could be issued
+     */
+    default void recordExhaustion(long capacity) {
+    }
+
+    /**
+     * Starts sending metrics of every generator created without its own metrics, and of direct
+     * word database lookups, to the given implementation, replacing any previously installed one.
+     */
+    static void install(SlugMetrics metrics) {
+        MetricsHolder.installed = Objects.requireNonNull(metrics, "metrics cannot be null");
+    }
+
+    /**
+     * Stops recording metrics.
+     */
+    static void uninstall() {
+        MetricsHolder.installed = null;
+    }
+
+    /**
+     * The installed default implementation, or null when there is none.
+     * Instrumented code reads it once per call and skips all measuring when it is null.
+     */
+    static SlugMetrics installed() {
+        return MetricsHolder.installed;
+    }
+}
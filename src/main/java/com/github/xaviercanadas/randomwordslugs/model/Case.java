@@ -8,6 +8,9 @@
 
 package com.github.xaviercanadas.randomwordslugs.model;
 
+/**
+ * Named output formats, each a shortcut for one of the {@link SlugFormat} built-ins.
+ */
 public enum Case {
     /**
      * kebab-case: words separated by hyphens, all lowercase
@@ -37,5 +40,46 @@ public enum Case {
      * Sentence case: First word capitalized, rest lowercase, separated by spaces
      * Example: "Happy little cat"
      */
-    SENTENCE
+    SENTENCE,
+
+    /**
+     * PascalCase: every word capitalized, no separators
+     * Example: "HappyLittleCat"
+     */
+    PASCAL,
+
+    /**
+     * snake_case: words separated by underscores, all lowercase
+     * Example: "happy_little_cat"
+     */
+    SNAKE,
+
+    /**
+     * SCREAMING_SNAKE_CASE: words separated by underscores, all uppercase
+     * Example: "HAPPY_LITTLE_CAT"
+     */
+    SCREAMING_SNAKE,
+
+    /**
+     * dot.case: words separated by dots, all lowercase
+     * Example: "happy.little.cat"
+     */
+    DOT;
+
+    /**
+     * Returns the slug format this case stands for.
+     */
+    public SlugFormat toFormat() {
+        return switch (this) {
+            case KEBAB -> SlugFormat.KEBAB;
+            case CAMEL -> SlugFormat.CAMEL;
+            case TITLE -> SlugFormat.TITLE;
+            case LOWER -> SlugFormat.LOWER;
+            case SENTENCE -> SlugFormat.SENTENCE;
+            case PASCAL -> SlugFormat.PASCAL;
+            case SNAKE -> SlugFormat.SNAKE;
+            case SCREAMING_SNAKE -> SlugFormat.SCREAMING_SNAKE;
+            case DOT -> SlugFormat.DOT;
+        };
+    }
 }
@@ -8,6 +8,8 @@
 
 package com.github.xaviercanadas.randomwordslugs.model;
 
+import java.util.Collection;
+
 public enum Category {
     // People & Social
     PEOPLE,
@@ -52,5 +54,26 @@ public enum Category {
     QUANTITY,
     TASTE,
     TOUCH,
-    SOUNDS
+    SOUNDS;
+
+    /**
+     * Bit of this category in a category bitmask.
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Builds a category bitmask with the bit of every given category set.
+     * A null or empty collection gives 0, which filters nothing.
+     */
+    public static long maskOf(Collection<Category> categories) {
+        long mask = 0L;
+        if (categories != null) {
+            for (Category category : categories) {
+                mask |= category.mask();
+            }
+        }
+        return mask;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * DelimitedFormat.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link SlugFormat} joining words with a fixed separator, with one style for the first word
+ * and another for the rest. Backs every built-in format.
+ */
+final class DelimitedFormat implements SlugFormat {
+    private final String separator;
+    private final byte[] separatorBytes;
+    private final WordStyle first;
+    private final WordStyle rest;
+
+    DelimitedFormat(String separator, WordStyle first, WordStyle rest) {
+        this.separator = Objects.requireNonNull(separator, "separator cannot be null");
+        this.separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        this.first = Objects.requireNonNull(first, "first cannot be null");
+        this.rest = Objects.requireNonNull(rest, "rest cannot be null");
+    }
+
+    @Override
+    public void appendWord(StringBuilder target, WordForms word, int position) {
+        if (position == 0) {
+            target.append(first.of(word));
+        } else {
+            target.append(separator).append(rest.of(word));
+        }
+    }
+
+    @Override
+    public void appendWord(StringBuilder target, String word, int position) {
+        if (position == 0) {
+            first.append(target, word);
+        } else {
+            target.append(separator);
+            rest.append(target, word);
+        }
+    }
+
+    @Override
+    public void appendWord(Appendable target, WordForms word, int position) throws IOException {
+        if (position == 0) {
+            target.append(first.of(word));
+        } else {
+            target.append(separator).append(rest.of(word));
+        }
+    }
+
+    @Override
+    public int encodedLength(WordForms word, int position) {
+        return position == 0 ? first.bytesOf(word).length : separatorBytes.length + rest.bytesOf(word).length;
+    }
+
+    @Override
+    public int writeWord(ByteBuffer target, WordForms word, int position) {
+        if (position == 0) {
+            byte[] bytes = first.bytesOf(word);
+            target.put(bytes);
+            return bytes.length;
+        }
+        byte[] bytes = rest.bytesOf(word);
+        target.put(separatorBytes).put(bytes);
+        return separatorBytes.length + bytes.length;
+    }
+
+    @Override
+    public int writeWord(byte[] target, int offset, WordForms word, int position) {
+        if (position == 0) {
+            byte[] bytes = first.bytesOf(word);
+            System.arraycopy(bytes, 0, target, offset, bytes.length);
+            return bytes.length;
+        }
+        byte[] bytes = rest.bytesOf(word);
+        System.arraycopy(separatorBytes, 0, target, offset, separatorBytes.length);
+        System.arraycopy(bytes, 0, target, offset + separatorBytes.length, bytes.length);
+        return separatorBytes.length + bytes.length;
+    }
+
+    @Override
+    public int separatorLength() {
+        return separator.length();
+    }
+
+    @Override
+    public String separator() {
+        return separator;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        DelimitedFormat other = (DelimitedFormat) obj;
+        return separator.equals(other.separator) && first == other.first && rest == other.rest;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(separator, first, rest);
+    }
+
+    @Override
+    public String toString() {
+        return "SlugFormat{" +
+                "separator='" + separator + '\'' +
+                ", first=" + first +
+                ", rest=" + rest +
+                '}';
+    }
+}
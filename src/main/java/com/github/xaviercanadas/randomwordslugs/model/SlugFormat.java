@@ -0,0 +1,173 @@
+/*
+ * SlugFormat.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Strategy that writes the words of a slug, one at a time, into a buffer.
+ * <p>
+ * The built-in formats join words with a separator and give the first word and the rest a
+ * {@link WordStyle}; {@link #of(String, WordStyle, WordStyle)} builds any other such format.
+ * Every {@link Case} maps to one of them, see {@link Case#toFormat()}.
+ * Implementations must be immutable and thread-safe.
+ */
+public interface SlugFormat {
+    /**
+     * kebab-case, e.g. "happy-little-cat"
+     */
+    SlugFormat KEBAB = of("-", WordStyle.LOWER, WordStyle.LOWER);
+
+    /**
+     * camelCase, e.g. "happyLittleCat"
+     */
+    SlugFormat CAMEL = of("", WordStyle.LOWER, WordStyle.CAPITALIZED);
+
+    /**
+     * PascalCase, e.g. "HappyLittleCat"
+     */
+    SlugFormat PASCAL = of("", WordStyle.CAPITALIZED, WordStyle.CAPITALIZED);
+
+    /**
+     * snake_case, e.g. "happy_little_cat"
+     */
+    SlugFormat SNAKE = of("_", WordStyle.LOWER, WordStyle.LOWER);
+
+    /**
+     * SCREAMING_SNAKE_CASE, e.g. "HAPPY_LITTLE_CAT"
+     */
+    SlugFormat SCREAMING_SNAKE = of("_", WordStyle.UPPER, WordStyle.UPPER);
+
+    /**
+     * dot.case, e.g. "happy.little.cat"
+     */
+    SlugFormat DOT = of(".", WordStyle.LOWER, WordStyle.LOWER);
+
+    /**
+     * Title Case, e.g. "Happy Little Cat"
+     */
+    SlugFormat TITLE = of(" ", WordStyle.CAPITALIZED, WordStyle.CAPITALIZED);
+
+    /**
+     * lower case, e.g. "happy little cat"
+     */
+    SlugFormat LOWER = of(" ", WordStyle.LOWER, WordStyle.LOWER);
+
+    /**
+     * Sentence case, e.g. "Happy little cat"
+     */
+    SlugFormat SENTENCE = of(" ", WordStyle.CAPITALIZED, WordStyle.LOWER);
+
+    /**
+     * Appends a word, preceded by the separator when it is not the first word.
+     *
+     * @param target the builder to append to
+     * @param word the forms of the word to append
+     * @param position zero-based position of the word in the slug
+     */
+    void appendWord(StringBuilder target, WordForms word, int position);
+
+    /**
+     * Appends a word whose forms are not precomputed.
+     * The default computes them first; built-in formats convert the word inline instead.
+     */
+    default void appendWord(StringBuilder target, String word, int position) {
+        appendWord(target, WordForms.of(word), position);
+    }
+
+    /**
+     * Appends a word to any {@link Appendable}, such as a {@link java.io.Writer}.
+     * The default formats into a temporary builder; built-in formats write straight to the target.
+     *
+     * @throws IOException if the target fails
+     */
+    default void appendWord(Appendable target, WordForms word, int position) throws IOException {
+        StringBuilder buffer = new StringBuilder(word.getMaxLength() + 4);
+        appendWord(buffer, word, position);
+        target.append(buffer);
+    }
+
+    /**
+     * Number of UTF-8 bytes {@link #writeWord(ByteBuffer, WordForms, int)} writes for a word, separator included.
+     */
+    default int encodedLength(WordForms word, int position) {
+        return encode(this, word, position).length;
+    }
+
+    /**
+     * Writes a word as UTF-8, preceded by the separator when it is not the first word.
+     * The default encodes a temporary string; built-in formats copy pre-encoded bytes.
+     *
+     * @return number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer has no room for the word
+     */
+    default int writeWord(ByteBuffer target, WordForms word, int position) {
+        byte[] bytes = encode(this, word, position);
+        target.put(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Writes a word as UTF-8 into an array, preceded by the separator when it is not the first word.
+     *
+     * @return number of bytes written
+     * @throws IndexOutOfBoundsException if the array has no room for the word
+     */
+    default int writeWord(byte[] target, int offset, WordForms word, int position) {
+        byte[] bytes = encode(this, word, position);
+        System.arraycopy(bytes, 0, target, offset, bytes.length);
+        return bytes.length;
+    }
+
+    /**
+     * Upper bound of the characters written between two words, used to size buffers.
+     */
+    default int separatorLength() {
+        return 1;
+    }
+
+    /**
+     * Text written between two words, which blocklists match across like word text.
+     * The default is empty; formats whose separator contains letters or digits must return it,
+     * or blocked terms spanning a separator go unnoticed.
+     */
+    default String separator() {
+        return "";
+    }
+
+    /**
+     * Creates a format that lowercases every word and joins them with the given separator,
+     * e.g. {@code separatedBy("/")} gives "happy/little/cat".
+     */
+    static SlugFormat separatedBy(String separator) {
+        return of(separator, WordStyle.LOWER, WordStyle.LOWER);
+    }
+
+    /**
+     * Creates a format that joins words with a separator, styling the first word and the rest.
+     *
+     * @param separator text between words, may be empty
+     * @param first style of the first word
+     * @param rest style of every other word
+     */
+    static SlugFormat of(String separator, WordStyle first, WordStyle rest) {
+        return new DelimitedFormat(separator, first, rest);
+    }
+
+    /**
+     * UTF-8 bytes of a word formatted by a format without a byte-level implementation.
+     */
+    private static byte[] encode(SlugFormat format, WordForms word, int position) {
+        StringBuilder buffer = new StringBuilder(word.getMaxLength() + 4);
+        format.appendWord(buffer, word, position);
+        return buffer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
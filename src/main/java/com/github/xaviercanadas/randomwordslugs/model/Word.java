@@ -8,20 +8,54 @@
 
 package com.github.xaviercanadas.randomwordslugs.model;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 public class Word {
+    /**
+     * Selection weight of words that do not set one.
+     */
+    public static final double DEFAULT_WEIGHT = 1.0;
+
+    private static final Category[] ALL_CATEGORIES = Category.values();
+
     private final String word;
-    private final List<Category> categories;
+
+    /**
+     * Categories of the word as a bitmask, see {@link Category#mask()}.
+     */
+    private final long categoryMask;
+
+    /**
+     * Relative selection frequency: a word of weight 2 is picked twice as often as one of weight 1.
+     */
+    private final double weight;
 
     public Word(String word, Category... categories) {
+        this(word, DEFAULT_WEIGHT, categories);
+    }
+
+    /**
+     * Creates a word with a selection weight.
+     *
+     * @throws IllegalArgumentException if the weight is not a positive finite number
+     */
+    public Word(String word, double weight, Category... categories) {
         this.word = Objects.requireNonNull(word, "word cannot be null");
-        this.categories = Collections.unmodifiableList(Arrays.asList(categories));
+        if (!(weight > 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("weight must be positive and finite");
+        }
+        this.weight = weight;
 
-        if (this.categories.isEmpty()) {
+        long mask = 0L;
+        for (Category category : categories) {
+            mask |= category.mask();
+        }
+        this.categoryMask = mask;
+
+        if (this.categoryMask == 0L) {
             throw new IllegalArgumentException("word must contain at least one category");
         }
     }
@@ -30,20 +64,37 @@ public class Word {
         return word;
     }
 
+    /**
+     * Categories of the word, in declaration order of {@link Category}.
+     */
     public List<Category> getCategories() {
-        return categories;
+        List<Category> categories = new ArrayList<>(Long.bitCount(categoryMask));
+        for (Category category : ALL_CATEGORIES) {
+            if ((categoryMask & category.mask()) != 0L) {
+                categories.add(category);
+            }
+        }
+        return Collections.unmodifiableList(categories);
+    }
+
+    public long getCategoryMask() {
+        return categoryMask;
+    }
+
+    public double getWeight() {
+        return weight;
     }
 
     public boolean hasAnyCategory(List<Category> targetCategories) {
-        if (targetCategories == null || targetCategories.isEmpty()) {
-            return true;
-        }
-        for (Category category : targetCategories) {
-            if (this.categories.contains(category)) {
-                return true;
-            }
-        }
-        return false;
+        return hasAnyCategory(Category.maskOf(targetCategories));
+    }
+
+    /**
+     * Checks the word against a category bitmask with a single AND.
+     * A zero mask matches every word.
+     */
+    public boolean hasAnyCategory(long targetMask) {
+        return targetMask == 0L || (categoryMask & targetMask) != 0L;
     }
 
     @Override
@@ -51,18 +102,20 @@ public class Word {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Word wordObj = (Word) obj;
-        return this.word.equals(wordObj.word) &&  this.categories.equals(wordObj.categories);
+        return this.word.equals(wordObj.word) && this.categoryMask == wordObj.categoryMask
+                && Double.compare(this.weight, wordObj.weight) == 0;
     }
     @Override
     public int hashCode() {
-        return Objects.hash(word, categories);
+        return Objects.hash(word, categoryMask, weight);
     }
 
     @Override
     public String toString() {
         return "Word{" +
                 "word='" + word + '\'' +
-                ", categories=" + categories +
+                ", categories=" + getCategories() +
+                ", weight=" + weight +
                 '}';
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * WordForms.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A word with its lowercase, capitalized and uppercase forms computed once, so formatting
+ * a slug only copies strings that are already in the right case. Each form is also kept
+ * encoded as UTF-8, for writing slugs straight into byte buffers.
+ */
+public final class WordForms {
+    private final String word;
+    private final String lower;
+    private final String capitalized;
+    private final String upper;
+    private final byte[] lowerBytes;
+    private final byte[] capitalizedBytes;
+    private final byte[] upperBytes;
+    private final int maxLength;
+
+    private WordForms(String word, String lower, String capitalized, String upper) {
+        this.word = word;
+        this.lower = lower;
+        this.capitalized = capitalized;
+        this.upper = upper;
+        this.lowerBytes = lower.getBytes(StandardCharsets.UTF_8);
+        this.capitalizedBytes = capitalized.equals(lower) ? lowerBytes : capitalized.getBytes(StandardCharsets.UTF_8);
+        this.upperBytes = upper.equals(capitalized) ? capitalizedBytes : upper.getBytes(StandardCharsets.UTF_8);
+        this.maxLength = Math.max(lower.length(), Math.max(capitalized.length(), upper.length()));
+    }
+
+    /**
+     * Computes the forms of a word. Forms equal to the word share its instance.
+     */
+    public static WordForms of(String word) {
+        Objects.requireNonNull(word, "word cannot be null");
+
+        String lower = reuse(word, toLower(word));
+        String upper = reuse(word, toUpper(word));
+        String capitalized = word.isEmpty() ? lower
+                : reuse(word, reuse(lower, Character.toUpperCase(word.charAt(0)) + lower.substring(1)));
+        return new WordForms(word, lower, capitalized, upper);
+    }
+
+    /**
+     * The word as stored in the vocabulary.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    public String getLower() {
+        return lower;
+    }
+
+    /**
+     * First letter uppercased, the rest lowercased.
+     */
+    public String getCapitalized() {
+        return capitalized;
+    }
+
+    public String getUpper() {
+        return upper;
+    }
+
+    /**
+     * UTF-8 encoding of the lowercase form. Shared, must not be modified.
+     */
+    byte[] lowerBytes() {
+        return lowerBytes;
+    }
+
+    /**
+     * UTF-8 encoding of the capitalized form. Shared, must not be modified.
+     */
+    byte[] capitalizedBytes() {
+        return capitalizedBytes;
+    }
+
+    /**
+     * UTF-8 encoding of the uppercase form. Shared, must not be modified.
+     */
+    byte[] upperBytes() {
+        return upperBytes;
+    }
+
+    /**
+     * Length of the longest form, for sizing buffers.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return word.equals(((WordForms) obj).word);
+    }
+
+    @Override
+    public int hashCode() {
+        return word.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return word;
+    }
+
+    /**
+     * Lowercases char by char, like the formatter always has, so forms never depend on the default locale.
+     */
+    private static String toLower(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static String toUpper(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static String reuse(String existing, String form) {
+        return existing.equals(form) ? existing : form;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * WordStyle.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package com.github.xaviercanadas.randomwordslugs.model;
+
+/**
+ * Letter case of a single word within a slug.
+ */
+public enum WordStyle {
+    /**
+     * all lowercase, e.g. "happy"
+     */
+    LOWER,
+
+    /**
+     * First letter uppercase, the rest lowercase, e.g. "Happy"
+     */
+    CAPITALIZED,
+
+    /**
+     * ALL UPPERCASE, e.g. "HAPPY"
+     */
+    UPPER;
+
+    /**
+     * Returns the precomputed form of the word in this style.
+     */
+    public String of(WordForms word) {
+        return switch (this) {
+            case LOWER -> word.getLower();
+            case CAPITALIZED -> word.getCapitalized();
+            case UPPER -> word.getUpper();
+        };
+    }
+
+    /**
+     * Returns the UTF-8 encoded form of the word in this style. Shared, must not be modified.
+     */
+    byte[] bytesOf(WordForms word) {
+        return switch (this) {
+            case LOWER -> word.lowerBytes();
+            case CAPITALIZED -> word.capitalizedBytes();
+            case UPPER -> word.upperBytes();
+        };
+    }
+
+    /**
+     * Appends a word converted to this style char by char, without intermediate strings.
+     */
+    void append(StringBuilder target, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            boolean upper = this == UPPER || (this == CAPITALIZED && i == 0);
+            target.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+    }
+}
@@ -9,11 +9,15 @@
 package com.github.xaviercanadas.randomwordslugs.util;
 
 import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
 
 import java.util.List;
 
 /**
- * Utility class for formatting word lists into different case styles.
+ * Utility class for formatting word lists into different case styles, see {@link SlugFormat}.
+ * Case conversion is done inline while appending, so no intermediate strings are created,
+ * or skipped entirely for words whose {@link WordForms} are already known.
  */
 public class Formatter {
 
@@ -30,105 +34,63 @@ public class Formatter {
             throw new IllegalArgumentException("Words list cannot be null or empty");
         }
 
-        return switch (caseStyle) {
-            case KEBAB -> formatKebab(words);
-            case CAMEL -> formatCamel(words);
-            case TITLE -> formatTitle(words);
-            case LOWER -> formatLower(words);
-            case SENTENCE -> formatSentence(words);
-        };
+        return format(words, caseStyle.toFormat());
     }
 
     /**
-     * kebab-case: words separated by hyphens, all lowercase
-     * Example: ["Happy", "Little", "Cat"] -> "happy-little-cat"
-     */
-    private static String formatKebab(List<String> words) {
-        return String.join("-", words).toLowerCase();
-    }
-
-    /**
-     * camelCase: first word lowercase, subsequent words capitalized, no separators
-     * Example: ["Happy", "Little", "Cat"] -> "happyLittleCat"
+     * Formats a list of words with any slug format.
+     *
+     * @param words the list of words to format
+     * @param format the slug format
+     * @return formatted string
+     * @throws IllegalArgumentException if words is null or empty
      */
-    private static String formatCamel(List<String> words) {
-        StringBuilder result = new StringBuilder();
-
-        for (int i = 0; i < words.size(); i++) {
-            String word = words.get(i);
-            if (i == 0) {
-                result.append(word.toLowerCase());
-            } else {
-                result.append(capitalize(word));
-            }
+    public static String format(List<String> words, SlugFormat format) {
+        if (words == null || words.isEmpty()) {
+            throw new IllegalArgumentException("Words list cannot be null or empty");
         }
 
-        return result.toString();
-    }
-
-    /**
-     * Title Case: Each Word Capitalized, separated by spaces
-     * Example: ["happy", "little", "cat"] -> "Happy Little Cat"
-     */
-    private static String formatTitle(List<String> words) {
         StringBuilder result = new StringBuilder();
-
         for (int i = 0; i < words.size(); i++) {
-            if (i > 0) {
-                result.append(" ");
-            }
-            result.append(capitalize(words.get(i)));
+            format.appendWord(result, words.get(i), i);
         }
-
         return result.toString();
     }
 
     /**
-     * lower case: all lowercase, separated by spaces
-     * Example: ["Happy", "Little", "Cat"] -> "happy little cat"
+     * Appends a single word to the target, preceded by the separator of the case style
+     * when it is not the first word.
+     * <ul>
+     *     <li>kebab-case: "happy-little-cat"</li>
+     *     <li>camelCase: "happyLittleCat"</li>
+     *     <li>Title Case: "Happy Little Cat"</li>
+     *     <li>lower case: "happy little cat"</li>
+     *     <li>Sentence case: "Happy little cat"</li>
+     *     <li>PascalCase: "HappyLittleCat"</li>
+     *     <li>snake_case: "happy_little_cat"</li>
+     *     <li>SCREAMING_SNAKE_CASE: "HAPPY_LITTLE_CAT"</li>
+     *     <li>dot.case: "happy.little.cat"</li>
+     * </ul>
+     *
+     * @param target the builder to append to
+     * @param word the word to append
+     * @param position zero-based position of the word in the slug
+     * @param caseStyle the desired case format
      */
-    private static String formatLower(List<String> words) {
-        return String.join(" ", words).toLowerCase();
+    public static void appendWord(StringBuilder target, String word, int position, Case caseStyle) {
+        caseStyle.toFormat().appendWord(target, word, position);
     }
 
     /**
-     * Sentence case: First word capitalized, rest lowercase, separated by spaces
-     * Example: ["happy", "little", "cat"] -> "Happy little cat"
-     */
-    private static String formatSentence(List<String> words) {
-        StringBuilder result = new StringBuilder();
-
-        for (int i = 0; i < words.size(); i++) {
-            if (i > 0) {
-                result.append(" ");
-            }
-
-            String word = words.get(i);
-            if (i == 0) {
-                result.append(capitalize(word));
-            } else {
-                result.append(word.toLowerCase());
-            }
-        }
-
-        return result.toString();
-    }
-
-    /**
-     * Capitalizes the first letter of a word and lowercases the rest.
+     * Appends a single word like {@link #appendWord(StringBuilder, String, int, Case)}, copying
+     * its precomputed form for the case style instead of converting it.
      *
-     * @param word the word to capitalize
-     * @return capitalized word
+     * @param target the builder to append to
+     * @param word the forms of the word to append
+     * @param position zero-based position of the word in the slug
+     * @param caseStyle the desired case format
      */
-    private static String capitalize(String word) {
-        if (word == null || word.isEmpty()) {
-            return word;
-        }
-
-        if (word.length() == 1) {
-            return word.toUpperCase();
-        }
-
-        return word.substring(0, 1).toUpperCase() + word.substring(1).toLowerCase();
+    public static void appendWord(StringBuilder target, WordForms word, int position, Case caseStyle) {
+        caseStyle.toFormat().appendWord(target, word, position);
     }
 }
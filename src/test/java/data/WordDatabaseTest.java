@@ -11,13 +11,20 @@ package data;
 import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
 import com.github.xaviercanadas.randomwordslugs.model.Category;
 import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.Word;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,6 +35,9 @@ class WordDatabaseTest {
 
     private WordDatabase database;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
         database = new WordDatabase();
@@ -183,4 +193,146 @@ class WordDatabaseTest {
         long uniqueAdjectives = allAdjectives.stream().distinct().count();
         assertEquals(allAdjectives.size(), uniqueAdjectives, "Adjectives list contains duplicates");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetWordsByCategoryReturnsCachedList() {
+        List<Category> categories = Arrays.asList(Category.ANIMALS, Category.FOOD);
+
+        assertSame(database.getWordsByCategory(PartsOfSpeech.NOUN, null),
+                database.getWordsByCategory(PartsOfSpeech.NOUN, null));
+        assertSame(database.getWordsByCategory(PartsOfSpeech.NOUN, Collections.singletonList(Category.ANIMALS)),
+                database.getWordsByCategory(PartsOfSpeech.NOUN, Collections.singletonList(Category.ANIMALS)));
+        assertSame(database.getWordsByCategory(PartsOfSpeech.NOUN, categories),
+                database.getWordsByCategory(PartsOfSpeech.NOUN, Arrays.asList(Category.FOOD, Category.ANIMALS)));
+    }
+
+    @Test
+    void testGetWordsByCategoryMatchesWordFilter() {
+        List<Category> categories = Arrays.asList(Category.TRANSPORTATION, Category.PLACE, Category.TIME);
+
+        List<String> expected = database.getWords(PartsOfSpeech.NOUN).stream()
+                .filter(word -> word.hasAnyCategory(categories))
+                .map(Word::getWord)
+                .toList();
+
+        assertEquals(expected, database.getWordsByCategory(PartsOfSpeech.NOUN, categories));
+    }
+
+    @Test
+    void testDatabasesShareVocabulary() {
+        WordDatabase other = new WordDatabase();
+
+        assertEquals(database.getWordsByCategory(PartsOfSpeech.NOUN, null),
+                other.getWordsByCategory(PartsOfSpeech.NOUN, null));
+        assertSame(database.getWords(PartsOfSpeech.ADJECTIVE), other.getWords(PartsOfSpeech.ADJECTIVE));
+    }
+
+    @Test
+    void testWordsKeepTheirCategories() {
+        Word airport = database.getWords(PartsOfSpeech.NOUN).stream()
+                .filter(word -> word.getWord().equals("airport"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(2, airport.getCategories().size());
+        assertTrue(airport.getCategories().contains(Category.TRANSPORTATION));
+        assertTrue(airport.getCategories().contains(Category.PLACE));
+    }
+
+    @Test
+    void testDefaultDatabaseIsShared() {
+        assertSame(WordDatabase.getDefault(), WordDatabase.getDefault());
+        assertEquals(database.getWordsByCategory(PartsOfSpeech.NOUN, null),
+                WordDatabase.getDefault().getWordsByCategory(PartsOfSpeech.NOUN, null));
+    }
+
+
+    @Test
+    void testMaskLookupMatchesListLookup() {
+        List<Category> categories = List.of(Category.ANIMALS, Category.FOOD);
+        long mask = Category.maskOf(categories);
+
+        assertSame(database.getWordsByCategory(PartsOfSpeech.NOUN, categories),
+                database.getWordsByMask(PartsOfSpeech.NOUN, mask));
+        assertSame(database.getWordsByCategory(PartsOfSpeech.NOUN, List.of(Category.FOOD)),
+                database.getWordsByMask(PartsOfSpeech.NOUN, Category.FOOD.mask()));
+        assertEquals(database.getWordCount(PartsOfSpeech.NOUN),
+                database.getWordCount(PartsOfSpeech.NOUN, 0L));
+    }
+
+
+    @Test
+    void testFromFileLoadsWordsAndCategories() throws IOException {
+        Path file = tempDir.resolve("words.csv");
+        Files.writeString(file, """
+                # custom vocabulary
+                otter,NOUN,ANIMALS
+                rocket , noun , Transportation | Technology\r
+
+                shiny\tADJECTIVE\tAPPEARANCE
+                café,NOUN,FOOD|
+                """, StandardCharsets.UTF_8);
+
+        WordDatabase custom = WordDatabase.fromFile(file);
+
+        assertEquals(List.of("otter", "rocket", "café"), custom.getWordsByCategory(PartsOfSpeech.NOUN, null));
+        assertEquals(List.of("shiny"), custom.getWordsByCategory(PartsOfSpeech.ADJECTIVE, null));
+        assertEquals(List.of("rocket"),
+                custom.getWordsByCategory(PartsOfSpeech.NOUN, List.of(Category.TECHNOLOGY)));
+        assertEquals(List.of("otter", "café"),
+                custom.getWordsByCategory(PartsOfSpeech.NOUN, List.of(Category.ANIMALS, Category.FOOD)));
+        assertEquals(new Word("rocket", Category.TECHNOLOGY, Category.TRANSPORTATION),
+                custom.getWords(PartsOfSpeech.NOUN).get(1));
+    }
+
+    @Test
+    void testFromFileRejectsMalformedLines() throws IOException {
+        Path unknownPartOfSpeech = tempDir.resolve("verb.csv");
+        Files.writeString(unknownPartOfSpeech, "otter,NOUN,ANIMALS\nrun,VERB,SPORTS\n");
+        IOException exception = assertThrows(IOException.class, () -> WordDatabase.fromFile(unknownPartOfSpeech));
+        assertTrue(exception.getMessage().contains("line 2"));
+
+        Path noCategory = tempDir.resolve("plain.txt");
+        Files.writeString(noCategory, "otter,NOUN\n");
+        assertThrows(IOException.class, () -> WordDatabase.fromFile(noCategory));
+
+        Path unknownCategory = tempDir.resolve("category.csv");
+        Files.writeString(unknownCategory, "otter,NOUN,MAMMALS\n");
+        assertThrows(IOException.class, () -> WordDatabase.fromFile(unknownCategory));
+    }
+
+
+    @Test
+    void testFromFileLoadsWeights() throws IOException {
+        Path file = tempDir.resolve("weighted.csv");
+        Files.writeString(file, """
+                otter,NOUN,ANIMALS,3
+                rocket,NOUN,TRANSPORTATION|TECHNOLOGY,
+                tiger\tNOUN\tANIMALS\t0.5
+                """, StandardCharsets.UTF_8);
+
+        WordDatabase custom = WordDatabase.fromFile(file);
+
+        assertTrue(custom.hasWeights());
+        assertFalse(new WordDatabase().hasWeights());
+        assertEquals(List.of("otter", "rocket", "tiger"), custom.getWordsByCategory(PartsOfSpeech.NOUN, null));
+        assertArrayEquals(new double[]{3, 1, 0.5}, custom.getWeightsByMask(PartsOfSpeech.NOUN, 0L, Map.of()));
+        assertArrayEquals(new double[]{6, 2, 1}, custom.getWeightsByMask(PartsOfSpeech.NOUN, 0L,
+                Map.of(Category.ANIMALS, 2.0, Category.TRANSPORTATION, 4.0, Category.TECHNOLOGY, 0.5)));
+        assertArrayEquals(new double[]{3, 0.5}, custom.getWeightsByMask(PartsOfSpeech.NOUN,
+                Category.ANIMALS.mask(), Map.of()));
+        assertEquals(3.0, custom.getWords(PartsOfSpeech.NOUN).get(0).getWeight());
+    }
+
+    @Test
+    void testFromFileRejectsInvalidWeights() throws IOException {
+        Path negative = tempDir.resolve("negative.csv");
+        Files.writeString(negative, "otter,NOUN,ANIMALS\ntiger,NOUN,ANIMALS,-1\n");
+        IOException exception = assertThrows(IOException.class, () -> WordDatabase.fromFile(negative));
+        assertTrue(exception.getMessage().contains("line 2"));
+
+        Path text = tempDir.resolve("text.csv");
+        Files.writeString(text, "otter,NOUN,ANIMALS,heavy\n");
+        assertThrows(IOException.class, () -> WordDatabase.fromFile(text));
+    }
+}
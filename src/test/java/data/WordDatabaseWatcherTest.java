@@ -0,0 +1,95 @@
+/*
+ * WordDatabaseWatcherTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package data;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabaseWatcher;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WordDatabaseWatcher class.
+ */
+class WordDatabaseWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReloadSwapsSnapshot() throws IOException {
+        Path file = write("words.csv", "otter,NOUN,ANIMALS\nshiny,ADJECTIVE,APPEARANCE\n");
+
+        try (WordDatabaseWatcher watcher = WordDatabaseWatcher.watch(file)) {
+            WordDatabase before = watcher.get();
+            assertEquals(List.of("otter"), before.getWordsByCategory(PartsOfSpeech.NOUN, null));
+
+            Files.writeString(file, "badger,NOUN,ANIMALS\nshiny,ADJECTIVE,APPEARANCE\n");
+            watcher.reload();
+
+            assertNotSame(before, watcher.get());
+            assertEquals(List.of("badger"), watcher.get().getWordsByCategory(PartsOfSpeech.NOUN, null));
+            // Holders of the old snapshot keep their view
+            assertEquals(List.of("otter"), before.getWordsByCategory(PartsOfSpeech.NOUN, null));
+        }
+    }
+
+    @Test
+    void testFailedReloadKeepsSnapshot() throws IOException {
+        Path file = write("words.csv", "otter,NOUN,ANIMALS\n");
+
+        try (WordDatabaseWatcher watcher = WordDatabaseWatcher.watch(file)) {
+            WordDatabase before = watcher.get();
+
+            Files.writeString(file, "otter,VERB,ANIMALS\n");
+            assertThrows(IOException.class, watcher::reload);
+
+            assertSame(before, watcher.get());
+            assertNotNull(watcher.getLastFailure());
+        }
+    }
+
+    @Test
+    void testFileChangeIsPickedUp() throws Exception {
+        Path file = write("words.csv", "otter,NOUN,ANIMALS\nshiny,ADJECTIVE,APPEARANCE\n");
+
+        try (WordDatabaseWatcher watcher = WordDatabaseWatcher.watch(file)) {
+            SlugGenerator generator = new SlugGenerator(watcher);
+            assertEquals("shiny-otter", generator.generate(2));
+
+            Path replacement = write("words.tmp", "badger,NOUN,ANIMALS\nshiny,ADJECTIVE,APPEARANCE\n");
+            Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (!generator.generate(2).equals("shiny-badger") && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals("shiny-badger", generator.generate(2));
+        }
+    }
+
+    @Test
+    void testMissingFileThrows() {
+        assertThrows(IOException.class, () -> WordDatabaseWatcher.watch(tempDir.resolve("missing.csv")));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * BlocklistTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package generator;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.Blocklist;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugPlan;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugSpaceExhaustedException;
+import com.github.xaviercanadas.randomwordslugs.generator.UniqueSlugSequence;
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Blocklist class.
+ */
+class BlocklistTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SlugGenerator generator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("words.csv"),
+                "big,ADJECTIVE,SIZE\nred,ADJECTIVE,COLOR\ncat,NOUN,ANIMALS\ndog,NOUN,ANIMALS\n");
+        generator = new SlugGenerator(WordDatabase.fromFile(file));
+    }
+
+    @Test
+    void testMatchesAcrossFormats() {
+        Blocklist blocklist = Blocklist.of("bad word");
+
+        assertTrue(blocklist.matches("bad-word"));
+        assertTrue(blocklist.matches("badWord"));
+        assertTrue(blocklist.matches("Very Bad Word"));
+        assertFalse(blocklist.matches("bad-wolf"));
+        assertFalse(blocklist.matches(""));
+    }
+
+    @Test
+    void testMatchesOverlappingTerms() {
+        Blocklist blocklist = Blocklist.of("he", "she", "hers", "his");
+
+        assertTrue(blocklist.matches("ushers"));
+        assertTrue(blocklist.matches("this"));
+        assertFalse(blocklist.matches("hobby"));
+        assertEquals(4, blocklist.size());
+    }
+
+    @Test
+    void testGeneratedSlugsAvoidBlockedPairs() {
+        SlugOptions options = SlugOptions.builder()
+                .blocklist(Blocklist.of("redcat", "gd"))
+                .build();
+
+        Set<String> slugs = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            slugs.add(generator.generate(2, options));
+        }
+        assertEquals(Set.of("big-cat", "red-dog"), slugs);
+    }
+
+    @Test
+    void testBlocklistAppliesToEveryFormat() {
+        SlugOptions options = SlugOptions.builder()
+                .blocklist(Blocklist.of("redcat", "gd"))
+                .format(Case.CAMEL)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            String slug = generator.generate(2, options);
+            assertTrue(slug.equals("bigCat") || slug.equals("redDog"), slug);
+        }
+    }
+
+    @Test
+    void testPlanKeyedAndUniqueSlugsAvoidBlockedTerms() {
+        SlugOptions options = SlugOptions.builder()
+                .blocklist(Blocklist.of("redcat", "gd"))
+                .build();
+        SlugPlan plan = generator.compile(2, options);
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(options.getBlocklist().matches(plan.next()));
+            assertFalse(options.getBlocklist().matches(plan.fromKey(i)));
+            assertFalse(options.getBlocklist().matches(generator.fromKey(i, options)));
+        }
+
+        UniqueSlugSequence sequence = plan.uniqueSequence(7L);
+        Set<String> unique = new HashSet<>();
+        unique.add(sequence.next());
+        unique.add(sequence.next());
+        assertEquals(Set.of("big-cat", "red-dog"), unique);
+        assertThrows(SlugSpaceExhaustedException.class, sequence::next);
+    }
+
+    @Test
+    void testBlocklistExcludingEverythingThrows() {
+        SlugOptions options = SlugOptions.builder()
+                .blocklist(Blocklist.of("cat", "dog"))
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> generator.generate(2, options));
+        assertThrows(IllegalStateException.class, () -> generator.compile(2, options));
+    }
+
+    @Test
+    void testTermWithoutLettersThrows() {
+        assertThrows(IllegalArgumentException.class, () -> Blocklist.of("--"));
+    }
+
+    @Test
+    void testLoadFromFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("blocklist.txt"), "# offensive terms\nredcat\n\n  gd  \n");
+
+        Blocklist blocklist = Blocklist.load(file);
+
+        assertEquals(2, blocklist.size());
+        assertTrue(blocklist.matches("Red Cat"));
+    }
+
+
+    @Test
+    void testWeightedPicksDrawOnlyAllowedWords() throws IOException {
+        // The blocked word holds nearly all the weight, so the allowed ones must be drawn among themselves
+        Path file = Files.writeString(tempDir.resolve("weighted.csv"),
+                "big,ADJECTIVE,SIZE\nowl,NOUN,ANIMALS,1e300\ncat,NOUN,ANIMALS,1e-300\ndog,NOUN,ANIMALS,3e-300\n");
+        SlugGenerator weighted = new SlugGenerator(WordDatabase.fromFile(file));
+        SlugOptions options = SlugOptions.builder().blocklist(Blocklist.of("owl")).build();
+        SlugPlan plan = weighted.compile(2, options);
+
+        int dogs = 0;
+        for (int i = 0; i < 4000; i++) {
+            String slug = plan.next();
+            assertNotEquals("big-owl", slug);
+            assertNotEquals("big-owl", weighted.generate(2, options));
+            assertNotEquals("big-owl", plan.fromKey(i));
+            if (slug.equals("big-dog")) {
+                dogs++;
+            }
+        }
+        assertTrue(dogs > 2800 && dogs < 3200, "Allowed words should keep their relative weights: " + dogs);
+    }
+
+
+    @Test
+    void testLetterSeparatorsTakePartInMatches() {
+        Blocklist blocklist = Blocklist.of("gxc", "d2d");
+        SlugOptions lettered = SlugOptions.builder()
+                .format(SlugFormat.separatedBy("x"))
+                .blocklist(blocklist)
+                .build();
+        SlugOptions digited = SlugOptions.builder()
+                .format(SlugFormat.separatedBy("2"))
+                .blocklist(blocklist)
+                .build();
+        SlugPlan plan = generator.compile(2, lettered);
+
+        Set<String> slugs = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            slugs.add(generator.generate(2, lettered));
+            slugs.add(plan.next());
+            slugs.add(plan.fromKey(i));
+            assertFalse(blocklist.matches(generator.generate(2, digited)));
+        }
+        assertEquals(Set.of("bigxdog", "redxcat", "redxdog"), slugs);
+
+        UniqueSlugSequence sequence = plan.uniqueSequence(3L);
+        Set<String> unique = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            unique.add(sequence.next());
+        }
+        assertEquals(slugs, unique);
+    }
+
+    @Test
+    void testSeparatorMatchingATermExcludesEveryPair() {
+        SlugOptions options = SlugOptions.builder()
+                .format(SlugFormat.separatedBy("x"))
+                .blocklist(Blocklist.of("x"))
+                .build();
+
+        assertFalse(generator.generate(1, options).isEmpty());
+        assertThrows(IllegalStateException.class, () -> generator.generate(2, options));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * IssuedSlugsTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package generator;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.IssuedSlugs;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugPlan;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugSpaceExhaustedException;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IssuedSlugs class.
+ */
+class IssuedSlugsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SlugGenerator generator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("words.csv"),
+                "big,ADJECTIVE,SIZE\nred,ADJECTIVE,COLOR\nold,ADJECTIVE,TIME\ncat,NOUN,ANIMALS\ndog,NOUN,ANIMALS\nowl,NOUN,ANIMALS\n");
+        generator = new SlugGenerator(WordDatabase.fromFile(file));
+    }
+
+    @Test
+    void testExactSetIssuesEverySlugOnceThenThrows() {
+        IssuedSlugs issued = IssuedSlugs.exact(100);
+        SlugOptions options = SlugOptions.builder().issuedSlugs(issued).build();
+
+        Set<String> slugs = new HashSet<>();
+        for (int i = 0; i < 9; i++) {
+            assertTrue(slugs.add(generator.generate(2, options)), "Slug issued twice");
+        }
+
+        assertEquals(9, issued.size());
+        assertThrows(SlugSpaceExhaustedException.class, () -> generator.generate(2, options));
+    }
+
+    @Test
+    void testPlanAndBufferOutputShareTheSet() {
+        IssuedSlugs issued = IssuedSlugs.exact(100);
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.ADJECTIVE, PartsOfSpeech.NOUN)
+                .issuedSlugs(issued)
+                .build();
+        SlugPlan plan = generator.compile(options);
+
+        Set<String> slugs = new HashSet<>(plan.generateBatch(4));
+        byte[] buffer = new byte[16];
+        for (int i = 0; i < 5; i++) {
+            int length = generator.generateInto(buffer, 0, options);
+            slugs.add(new String(buffer, 0, length, StandardCharsets.UTF_8));
+        }
+
+        assertEquals(9, slugs.size());
+        assertThrows(SlugSpaceExhaustedException.class, plan::next);
+    }
+
+    @Test
+    void testFullExactSetThrows() {
+        SlugOptions options = SlugOptions.builder().issuedSlugs(IssuedSlugs.exact(4)).build();
+
+        for (int i = 0; i < 4; i++) {
+            generator.generate(2, options);
+        }
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> generator.generate(2, options));
+        assertFalse(exception instanceof SlugSpaceExhaustedException);
+    }
+
+    @Test
+    void testApproximateSetIsSmallAndUnique() {
+        SlugGenerator defaultGenerator = new SlugGenerator();
+        IssuedSlugs approximate = IssuedSlugs.approximate(20_000, 0.01);
+        SlugPlan plan = defaultGenerator.compile(SlugOptions.builder().issuedSlugs(approximate).build());
+
+        Set<String> slugs = new HashSet<>(plan.generateBatch(20_000));
+
+        assertEquals(20_000, slugs.size());
+        assertEquals(20_000, approximate.size());
+        assertTrue(approximate.memoryBytes() < 2 * 20_000, "Bloom filter should take under 2 bytes per slug");
+        assertTrue(approximate.memoryBytes() < IssuedSlugs.exact(20_000).memoryBytes() / 5);
+    }
+
+    @Test
+    void testInvalidSizesThrow() {
+        assertThrows(IllegalArgumentException.class, () -> IssuedSlugs.exact(0));
+        assertThrows(IllegalArgumentException.class, () -> IssuedSlugs.approximate(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> IssuedSlugs.approximate(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> IssuedSlugs.approximate(1000, 1));
+        assertThrows(IllegalArgumentException.class, () -> IssuedSlugs.approximate(Long.MAX_VALUE / 2, 0.01));
+    }
+
+
+    @Test
+    void testOverflowingBufferDoesNotUseUpASlug() {
+        IssuedSlugs issued = IssuedSlugs.exact(100);
+        SlugOptions options = SlugOptions.builder().issuedSlugs(issued).build();
+
+        assertThrows(BufferOverflowException.class, () -> generator.generateInto(ByteBuffer.allocate(4), options));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.generateInto(new byte[8], 4, options));
+        assertEquals(0, issued.size());
+
+        for (int i = 0; i < 9; i++) {
+            generator.generateInto(ByteBuffer.allocate(16), options);
+        }
+        assertEquals(9, issued.size());
+    }
+
+
+    @Test
+    void testGivingUpReportsFailedDraws() {
+        IssuedSlugs issued = IssuedSlugs.exact(100);
+        SlugOptions options = SlugOptions.builder().issuedSlugs(issued).build();
+        for (int i = 0; i < 9; i++) {
+            generator.generate(2, options);
+        }
+
+        SlugSpaceExhaustedException exception = assertThrows(SlugSpaceExhaustedException.class,
+                () -> generator.generate(2, options));
+        assertEquals(9, exception.getCapacity());
+        assertTrue(exception.getFailedDraws() > 0);
+        assertTrue(exception.getMessage().contains("9 slugs recorded"), exception.getMessage());
+    }
+
+    @Test
+    void testFullExactSetRejectsEveryKeyIncludingZero() {
+        IssuedSlugs issued = IssuedSlugs.exact(1);
+        SlugOptions options = SlugOptions.builder().issuedSlugs(issued).build();
+        generator.generate(1, options);
+
+        // One-word slugs pack to keys 0 to 2, so the zero key comes up too
+        for (int i = 0; i < 50; i++) {
+            assertThrows(IllegalStateException.class, () -> generator.generate(1, options));
+        }
+        assertEquals(1, issued.size());
+    }
+}
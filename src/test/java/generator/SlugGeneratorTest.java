@@ -7,16 +7,43 @@
  */
 
 package generator;import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.Blocklist;
 import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.generator.IssuedSlugs;
 import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.RandomSource;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugPlan;
 import com.github.xaviercanadas.randomwordslugs.model.Case;
 import com.github.xaviercanadas.randomwordslugs.model.Category;
 import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +52,9 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class SlugGeneratorTest {
 
+    @TempDir
+    Path tempDir;
+
     private SlugGenerator generator;
 
     @BeforeEach
@@ -428,4 +458,488 @@ class SlugGeneratorTest {
                     "Third word should start with lowercase");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSharedSeededRandomSourceIsReproducible() {
+        SlugGenerator first = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(42)));
+        SlugGenerator second = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(42)));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(first.generate(), second.generate());
+        }
+    }
+
+    @Test
+    void testSplitRandomSourceAcrossThreads() throws InterruptedException {
+        SlugGenerator splitGenerator = new SlugGenerator(
+                new WordDatabase(),
+                RandomSource.split(RandomGenerator.SplittableGenerator.of("L64X128MixRandom"))
+        );
+        Set<String> slugs = ConcurrentHashMap.newKeySet();
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    slugs.add(splitGenerator.generate());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Independent streams per thread should not repeat each other
+        assertTrue(slugs.size() > 390);
+    }
+
+    @Test
+    void testGenerateBatch() {
+        SlugOptions options = SlugOptions.builder()
+                .withNounCategories(Category.ANIMALS)
+                .format(Case.TITLE)
+                .build();
+        List<String> animals = new WordDatabase().getWordsByCategory(
+                PartsOfSpeech.NOUN, Arrays.asList(Category.ANIMALS));
+
+        List<String> slugs = generator.generateBatch(500, options);
+
+        assertEquals(500, slugs.size());
+        for (String slug : slugs) {
+            String[] words = slug.split(" ");
+            assertEquals(3, words.length);
+            assertTrue(animals.contains(words[2].toLowerCase()), "Noun should be an animal: " + words[2]);
+        }
+        assertTrue(slugs.stream().distinct().count() > 1);
+    }
+
+    @Test
+    void testGenerateBatchIntoArray() {
+        String[] target = new String[10];
+
+        generator.generateBatch(target, 2, 5, null);
+
+        assertNull(target[0]);
+        assertNull(target[1]);
+        for (int i = 2; i < 7; i++) {
+            assertEquals(3, target[i].split("-").length);
+        }
+        assertNull(target[7]);
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.generateBatch(target, 8, 5, null));
+    }
+
+    @Test
+    void testGenerateBatchWithInvalidCount() {
+        assertThrows(IllegalArgumentException.class, () -> generator.generateBatch(-1, null));
+        assertTrue(generator.generateBatch(0, null).isEmpty());
+    }
+
+    @Test
+    void testStreamIsLazyAndInfinite() {
+        SlugOptions options = SlugOptions.builder()
+                .format(Case.CAMEL)
+                .build();
+
+        List<String> slugs = generator.stream(options).limit(50).toList();
+
+        assertEquals(50, slugs.size());
+        for (String slug : slugs) {
+            assertFalse(slug.contains("-"));
+            assertTrue(Character.isLowerCase(slug.charAt(0)));
+        }
+    }
+
+    @Test
+    void testParallelStream() {
+        long distinct = generator.stream(null)
+                .parallel()
+                .limit(10_000)
+                .distinct()
+                .count();
+
+        assertTrue(distinct > 9_900, "Parallel stream should produce mostly distinct slugs");
+    }
+
+    @Test
+    void testIterator() {
+        Iterator<String> iterator = generator.iterator(null);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(3, iterator.next().split("-").length);
+        }
+    }
+
+    @Test
+    void testFromKeyIsDeterministic() {
+        SlugOptions options = SlugOptions.builder()
+                .withNounCategories(Category.ANIMALS)
+                .format(Case.CAMEL)
+                .build();
+        SlugGenerator other = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(1)));
+
+        for (long key = 0; key < 50; key++) {
+            assertEquals(generator.fromKey(key, options), other.fromKey(key, options));
+            assertEquals(generator.fromKey(key, options), generator.compile(options).fromKey(key));
+        }
+        assertNotEquals(generator.fromKey(1L, null), generator.fromKey(2L, null));
+    }
+
+    @Test
+    void testFromBytesIsDeterministic() {
+        byte[] key = "0f8fad5b-d9cb-469f-a165-70867728950e".getBytes();
+        byte[] otherKey = "7c9e6679-7425-40de-944b-e07fc1f90ae7".getBytes();
+
+        assertEquals(generator.fromBytes(key, null), generator.fromBytes(key.clone(), null));
+        assertEquals(generator.fromBytes(key, null), generator.compile(null).fromBytes(key));
+        assertNotEquals(generator.fromBytes(key, null), generator.fromBytes(otherKey, null));
+        assertEquals(3, generator.fromBytes(new byte[0], null).split("-").length);
+    }
+
+    @Test
+    void testFromKeySpreadsAcrossSlugs() {
+        Set<String> slugs = new HashSet<>();
+        for (long key = 0; key < 10_000; key++) {
+            slugs.add(generator.fromKey(key, null));
+        }
+
+        assertTrue(slugs.size() > 9_990, "Sequential keys should map to well spread slugs");
+    }
+
+    @Test
+    void testFromKeyMappingIsStable() {
+        // Keyed slugs must not change between releases with the same vocabulary
+        assertEquals("muscular-black-bit", generator.fromKey(42L, null));
+        assertEquals("young-slow-night", generator.fromBytes(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, null));
+    }
+
+    @Test
+    void testTotalUniqueSlugsSaturatesInsteadOfOverflowing() {
+        long total = generator.totalUniqueSlugs(10, null);
+        BigInteger exact = generator.totalUniqueSlugsExact(10, null);
+
+        assertTrue(exact.bitLength() > 63, "10-word space should exceed a long");
+        assertEquals(Long.MAX_VALUE, total);
+    }
+
+    @Test
+    void testTotalUniqueSlugsExactMatchesLongWhenItFits() {
+        assertEquals(BigInteger.valueOf(generator.totalUniqueSlugs(3, null)),
+                generator.totalUniqueSlugsExact(3, null));
+    }
+
+    @Test
+    void testEntropyBits() {
+        WordDatabase db = new WordDatabase();
+        double expected = 2 * Math.log(db.getWordCount(PartsOfSpeech.ADJECTIVE)) / Math.log(2)
+                + Math.log(db.getWordCount(PartsOfSpeech.NOUN)) / Math.log(2);
+
+        assertEquals(expected, generator.entropyBits(3, null), 1e-9);
+        assertEquals(generator.totalUniqueSlugsExact(10, null).bitLength(),
+                generator.entropyBits(10, null), 1.0);
+    }
+
+
+    @Test
+    void testCustomSlugFormat() {
+        SlugOptions options = SlugOptions.builder()
+                .format(SlugFormat.SCREAMING_SNAKE)
+                .build();
+
+        String slug = generator.generate(options);
+        assertTrue(slug.matches("[A-Z]+_[A-Z]+_[A-Z]+"), slug);
+        assertTrue(generator.compile(options).next().matches("[A-Z]+_[A-Z]+_[A-Z]+"));
+        assertTrue(generator.fromKey(5L, options).matches("[A-Z]+_[A-Z]+_[A-Z]+"));
+    }
+
+
+    @Test
+    void testGenerateIntoByteBufferMatchesGenerate() {
+        SlugOptions options = SlugOptions.builder()
+                .format(Case.CAMEL)
+                .build();
+        SlugGenerator first = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(7)));
+        SlugGenerator second = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(7)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        for (int i = 0; i < 20; i++) {
+            String expected = first.generate(options);
+            int start = buffer.position();
+            int written = second.generateInto(buffer, options);
+
+            assertEquals(expected.length(), written);
+            assertEquals(start + written, buffer.position());
+            assertEquals(expected, new String(buffer.array(), start, written, StandardCharsets.US_ASCII));
+            buffer.clear();
+        }
+    }
+
+    @Test
+    void testGenerateIntoByteArray() {
+        SlugGenerator first = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(11)));
+        SlugGenerator second = new SlugGenerator(new WordDatabase(), RandomSource.shared(new SplittableRandom(11)));
+
+        byte[] target = new byte[128];
+        String expected = first.generate(null);
+        int written = second.generateInto(target, 3, null);
+
+        assertEquals(expected, new String(target, 3, written, StandardCharsets.US_ASCII));
+        assertEquals(0, target[0]);
+    }
+
+    @Test
+    void testGenerateIntoAppendable() throws IOException {
+        SlugOptions options = SlugOptions.builder()
+                .format(SlugFormat.SNAKE)
+                .build();
+        StringBuilder target = new StringBuilder("id=");
+
+        int written = generator.generateInto(target, options);
+
+        assertEquals(target.length() - 3, written);
+        assertTrue(target.toString().matches("id=[a-z]+_[a-z]+_[a-z]+"), target.toString());
+    }
+
+    @Test
+    void testGenerateIntoWithoutRoomWritesNothing() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        assertThrows(BufferOverflowException.class, () -> generator.generateInto(buffer, null));
+        assertEquals(0, buffer.position());
+
+        byte[] target = new byte[4];
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.generateInto(target, 0, null));
+        assertArrayEquals(new byte[4], target);
+    }
+
+
+    @Test
+    void testWordWeightsSkewSelection() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("words.csv"), "cat,NOUN,ANIMALS,9\ndog,NOUN,ANIMALS,1\n");
+        SlugGenerator weighted = new SlugGenerator(WordDatabase.fromFile(file),
+                RandomSource.shared(new SplittableRandom(3)));
+        SlugPlan plan = weighted.compile(1, null);
+
+        int cats = 0;
+        int planCats = 0;
+        for (int i = 0; i < 10_000; i++) {
+            cats += weighted.generate(1).equals("cat") ? 1 : 0;
+            planCats += plan.next().equals("cat") ? 1 : 0;
+        }
+        assertEquals(9_000, cats, 300);
+        assertEquals(9_000, planCats, 300);
+    }
+
+    @Test
+    void testCategoryWeightsBoostCategory() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("words.csv"), "cat,NOUN,ANIMALS\ncar,NOUN,TRANSPORTATION\n");
+        SlugGenerator weighted = new SlugGenerator(WordDatabase.fromFile(file),
+                RandomSource.shared(new SplittableRandom(5)));
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.NOUN)
+                .categoryWeight(Category.ANIMALS, 4)
+                .build();
+
+        int cats = 0;
+        int keyedCats = 0;
+        for (int i = 0; i < 10_000; i++) {
+            cats += weighted.generate(options).equals("cat") ? 1 : 0;
+            keyedCats += weighted.fromKey(i, options).equals("cat") ? 1 : 0;
+        }
+        assertEquals(8_000, cats, 300);
+        assertEquals(8_000, keyedCats, 300);
+        assertEquals(weighted.fromKey(42L, options), weighted.compile(options).fromKey(42L));
+    }
+
+    @Test
+    void testWeightsWithBlocklist() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("words.csv"),
+                "big,ADJECTIVE,SIZE,100\nred,ADJECTIVE,COLOR\ncat,NOUN,ANIMALS\ndog,NOUN,ANIMALS\n");
+        SlugGenerator weighted = new SlugGenerator(WordDatabase.fromFile(file));
+        SlugOptions options = SlugOptions.builder()
+                .blocklist(Blocklist.of("bigcat"))
+                .build();
+
+        for (int i = 0; i < 200; i++) {
+            assertNotEquals("big-cat", weighted.generate(2, options));
+            assertNotEquals("big-cat", weighted.fromKey(i, options));
+        }
+    }
+
+
+    @Test
+    void testGenerateAsync() throws Exception {
+        String slug = generator.generateAsync(null).get(10, TimeUnit.SECONDS);
+        assertEquals(3, slug.split("-").length);
+
+        CompletableFuture<String> failed = generator.generateAsync(SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.NOUN)
+                .withNounCategories(Category.COLOR)
+                .build(), Runnable::run);
+        assertTrue(failed.isCompletedExceptionally());
+    }
+
+    @Test
+    void testGenerateFromManyVirtualThreads() throws Exception {
+        Set<String> slugs = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.submit(() -> slugs.add(generator.generate(4)));
+            }
+        }
+        assertTrue(slugs.size() > 9_000);
+        assertTrue(slugs.stream().allMatch(slug -> slug.split("-").length == 4));
+    }
+
+    @Test
+    void testPublisherHonoursBackpressure() {
+        List<String> received = new ArrayList<>();
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+
+        generator.publisher(null, 4, Runnable::run).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(String slug) {
+                received.add(slug);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Slug publisher never completes");
+            }
+        });
+
+        assertTrue(received.isEmpty());
+        subscription[0].request(10);
+        assertEquals(10, received.size());
+        subscription[0].request(3);
+        assertEquals(13, received.size());
+        subscription[0].cancel();
+        subscription[0].request(5);
+        assertEquals(13, received.size());
+    }
+
+    @Test
+    void testPublisherOnVirtualThreads() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        generator.publisher(null).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1_000);
+            }
+
+            @Override
+            public void onNext(String slug) {
+                received.add(slug);
+                if (received.size() == 1_000) {
+                    subscription.cancel();
+                    done.countDown();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1_000, received.size());
+    }
+
+    @Test
+    void testPublisherRejectsNonPositiveRequest() {
+        Throwable[] error = new Throwable[1];
+
+        generator.publisher(null, 4, Runnable::run).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onNext(String slug) {
+                fail("No slug was requested");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error[0] = throwable;
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertInstanceOf(IllegalArgumentException.class, error[0]);
+    }
+
+    @Test
+    void testPublisherCancelMidBatchRecordsOnlyEmittedSlugs() {
+        IssuedSlugs issued = IssuedSlugs.exact(100);
+        SlugOptions options = SlugOptions.builder().issuedSlugs(issued).build();
+        List<String> received = new ArrayList<>();
+
+        generator.publisher(options, 8, Runnable::run).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(8);
+            }
+
+            @Override
+            public void onNext(String slug) {
+                received.add(slug);
+                if (received.size() == 3) {
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Slug publisher never completes");
+            }
+        });
+
+        assertEquals(3, received.size());
+        assertEquals(3, issued.size());
+    }
+
+
+    @Test
+    void testMissingPartOfSpeechWithoutOptionsThrowsIllegalState() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("nouns.csv"), "cat,NOUN,ANIMALS\ndog,NOUN,ANIMALS\n");
+        SlugGenerator nounsOnly = new SlugGenerator(WordDatabase.fromFile(file));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> nounsOnly.generate(null));
+        assertTrue(exception.getMessage().contains("ADJECTIVE"), exception.getMessage());
+        assertThrows(IllegalStateException.class, () -> nounsOnly.generate(3, null));
+    }
+}
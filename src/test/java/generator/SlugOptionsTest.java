@@ -10,10 +10,12 @@ package generator;import com.github.xaviercanadas.randomwordslugs.generator.Slug
 import com.github.xaviercanadas.randomwordslugs.model.Case;
 import com.github.xaviercanadas.randomwordslugs.model.Category;
 import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -187,4 +189,31 @@ class SlugOptionsTest {
         assertNotNull(options.getCategories());
         assertNotNull(options.getFormat());
     }
+
+
+    @Test
+    void testCustomSlugFormat() {
+        SlugFormat format = SlugFormat.separatedBy("/");
+        SlugOptions options = SlugOptions.builder()
+                .format(format)
+                .build();
+
+        assertSame(format, options.getSlugFormat());
+        assertNull(options.getFormat());
+        assertSame(SlugFormat.PASCAL, SlugOptions.builder().format(Case.PASCAL).build().getSlugFormat());
+        assertSame(SlugFormat.KEBAB, SlugOptions.builder().build().getSlugFormat());
+    }
+
+
+    @Test
+    void testCategoryWeights() {
+        SlugOptions options = SlugOptions.builder()
+                .categoryWeight(Category.ANIMALS, 3)
+                .build();
+
+        assertEquals(Map.of(Category.ANIMALS, 3.0), options.getCategoryWeights());
+        assertTrue(SlugOptions.builder().build().getCategoryWeights().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> SlugOptions.builder().categoryWeight(Category.ANIMALS, 0));
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * SlugPlanTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package generator;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugPlan;
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlugPlan.
+ */
+class SlugPlanTest {
+
+    private SlugGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SlugGenerator();
+    }
+
+    @Test
+    void testCompileDefaults() {
+        SlugPlan plan = generator.compile(null);
+
+        assertEquals(3, plan.getNumberOfWords());
+        assertEquals(Case.KEBAB, plan.getFormat());
+        assertEquals(generator.totalUniqueSlugs(3, null), plan.getCombinations());
+        assertEquals(generator.totalUniqueSlugsExact(3, null), plan.getCombinationsExact());
+        assertEquals(generator.entropyBits(3, null), plan.getEntropyBits(), 1e-9);
+        assertEquals(3, plan.next().split("-").length);
+    }
+
+    @Test
+    void testNextUsesResolvedPools() {
+        WordDatabase db = new WordDatabase();
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.NOUN, PartsOfSpeech.ADJECTIVE)
+                .withNounCategories(Category.FOOD)
+                .withAdjectiveCategories(Category.TASTE)
+                .format(Case.LOWER)
+                .build();
+        List<String> foods = db.getWordsByCategory(PartsOfSpeech.NOUN, Arrays.asList(Category.FOOD));
+        List<String> tastes = db.getWordsByCategory(PartsOfSpeech.ADJECTIVE, Arrays.asList(Category.TASTE));
+
+        SlugPlan plan = generator.compile(options);
+
+        assertEquals((long) foods.size() * tastes.size(), plan.getCombinations());
+        for (int i = 0; i < 100; i++) {
+            String[] words = plan.next().split(" ");
+            assertTrue(foods.contains(words[0]), "Not a food: " + words[0]);
+            assertTrue(tastes.contains(words[1]), "Not a taste: " + words[1]);
+        }
+    }
+
+    @Test
+    void testCompileWithMismatchedPattern() {
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.ADJECTIVE, PartsOfSpeech.NOUN)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> generator.compile(3, options));
+        assertThrows(IllegalArgumentException.class, () -> generator.compile(0, null));
+    }
+
+    @Test
+    void testPlanIsSharedAcrossThreads() throws InterruptedException {
+        SlugPlan plan = generator.compile(5, null);
+        String[][] results = new String[4][];
+
+        Thread[] threads = new Thread[results.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> results[index] = plan.generateBatch(200).toArray(new String[0]));
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (String[] batch : results) {
+            assertEquals(200, batch.length);
+            for (String slug : batch) {
+                assertEquals(5, slug.split("-").length);
+            }
+        }
+    }
+
+
+    @Test
+    void testRecompilingSameOptionsReusesPlan() {
+        SlugOptions options = SlugOptions.builder().format(Case.SNAKE).build();
+        SlugPlan plan = generator.compile(options);
+
+        assertSame(plan, generator.compile(options));
+        assertNotSame(plan, generator.compile(2, options));
+        assertNotSame(plan, generator.compile(SlugOptions.builder().format(Case.SNAKE).build()));
+
+        WordDatabase[] databases = {WordDatabase.getDefault(), new WordDatabase()};
+        int[] calls = {0};
+        SlugGenerator swapping = new SlugGenerator(() -> databases[calls[0]++ % 2]);
+        assertNotSame(swapping.compile(options), swapping.compile(options));
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * UniqueSlugSequenceTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package generator;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugPlan;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugSpaceExhaustedException;
+import com.github.xaviercanadas.randomwordslugs.generator.UniqueSlugSequence;
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UniqueSlugSequence.
+ */
+class UniqueSlugSequenceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SlugGenerator generator;
+    private SlugOptions smallSpace;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SlugGenerator();
+        smallSpace = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.ADJECTIVE, PartsOfSpeech.NOUN)
+                .withAdjectiveCategories(Category.COLOR)
+                .withNounCategories(Category.ANIMALS)
+                .build();
+    }
+
+    @Test
+    void testIssuesEveryCombinationExactlyOnce() {
+        UniqueSlugSequence sequence = generator.uniqueSequence(smallSpace, 7L);
+        long capacity = generator.totalUniqueSlugs(2, smallSpace);
+
+        assertEquals(capacity, sequence.capacity());
+
+        Set<String> issued = new HashSet<>();
+        for (long i = 0; i < capacity; i++) {
+            assertTrue(issued.add(sequence.next()), "Slug issued twice");
+        }
+        assertEquals(capacity, issued.size());
+        assertEquals(0, sequence.remaining());
+    }
+
+    @Test
+    void testThrowsWhenExhausted() {
+        SlugOptions animals = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.NOUN)
+                .withNounCategories(Category.ANIMALS)
+                .build();
+        UniqueSlugSequence sequence = generator.uniqueSequence(animals);
+        List<String> expected = new WordDatabase().getWordsByCategory(PartsOfSpeech.NOUN, List.of(Category.ANIMALS));
+
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < expected.size(); i++) {
+            issued.add(sequence.next());
+        }
+
+        assertEquals(new HashSet<>(expected), issued);
+        SlugSpaceExhaustedException exception = assertThrows(SlugSpaceExhaustedException.class, sequence::next);
+        assertEquals(expected.size(), exception.getCapacity());
+    }
+
+    @Test
+    void testSameKeyGivesSameOrder() {
+        UniqueSlugSequence first = generator.uniqueSequence(smallSpace, 42L);
+        UniqueSlugSequence second = generator.uniqueSequence(smallSpace, 42L);
+        UniqueSlugSequence other = generator.uniqueSequence(smallSpace, 43L);
+
+        List<String> firstSlugs = new ArrayList<>();
+        List<String> secondSlugs = new ArrayList<>();
+        List<String> otherSlugs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            firstSlugs.add(first.next());
+            secondSlugs.add(second.next());
+            otherSlugs.add(other.next());
+        }
+
+        assertEquals(firstSlugs, secondSlugs);
+        assertNotEquals(firstSlugs, otherSlugs);
+    }
+
+    @Test
+    void testDefaultSpaceIsLargeAndUnique() {
+        UniqueSlugSequence sequence = generator.uniqueSequence(null, 1L);
+
+        assertEquals(generator.totalUniqueSlugs(3, null), sequence.capacity());
+
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(issued.add(sequence.next()));
+        }
+    }
+
+
+    @Test
+    void testNodeStripesAreDisjointAndCoverTheSpace() {
+        long total = generator.totalUniqueSlugs(2, smallSpace);
+        int nodeCount = 3;
+
+        Set<String> issued = new HashSet<>();
+        long capacities = 0;
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            UniqueSlugSequence node = generator.uniqueSequence(smallSpace, 7L, nodeId, nodeCount);
+            assertEquals(nodeId, node.getNodeId());
+            assertEquals(nodeCount, node.getNodeCount());
+            capacities += node.capacity();
+
+            for (long i = 0; i < node.capacity(); i++) {
+                assertTrue(issued.add(node.next()), "Slug issued by two nodes");
+            }
+            assertThrows(SlugSpaceExhaustedException.class, node::next);
+        }
+
+        assertEquals(total, capacities);
+        assertEquals(total, issued.size());
+    }
+
+    @Test
+    void testStripesFollowTheSharedOrder() {
+        UniqueSlugSequence whole = generator.uniqueSequence(smallSpace, 42L);
+        UniqueSlugSequence even = generator.uniqueSequence(smallSpace, 42L, 0, 2);
+        UniqueSlugSequence odd = generator.uniqueSequence(smallSpace, 42L, 1, 2);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(whole.next(), even.next());
+            assertEquals(whole.next(), odd.next());
+        }
+    }
+
+    @Test
+    void testInvalidNodeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> generator.uniqueSequence(smallSpace, 1L, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.uniqueSequence(smallSpace, 1L, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> generator.uniqueSequence(smallSpace, 1L, -1, 2));
+    }
+
+
+    @Test
+    void testCheckpointResumesWithoutReissuing() throws IOException {
+        Path file = tempDir.resolve("sequence.checkpoint");
+        SlugPlan plan = generator.compile(smallSpace);
+        List<String> order = new ArrayList<>();
+        UniqueSlugSequence reference = plan.uniqueSequence(7L);
+        for (long i = 0; i < reference.capacity(); i++) {
+            order.add(reference.next());
+        }
+
+        List<String> issued = new ArrayList<>();
+        try (UniqueSlugSequence sequence = plan.uniqueSequence(7L, 0, 1, file, 10)) {
+            for (int i = 0; i < 15; i++) {
+                issued.add(sequence.next());
+            }
+        }
+        // Resumed after the second lease of 10
+        try (UniqueSlugSequence resumed = plan.uniqueSequence(7L, 0, 1, file, 10)) {
+            assertEquals(order.size() - 20, resumed.remaining());
+            while (resumed.remaining() > 0) {
+                issued.add(resumed.next());
+            }
+        }
+
+        List<String> expected = new ArrayList<>(order.subList(0, 15));
+        expected.addAll(order.subList(20, order.size()));
+        assertEquals(expected, issued);
+    }
+
+    @Test
+    void testCheckpointSurvivesKilledProcess() throws Exception {
+        Path file = tempDir.resolve("killed.checkpoint");
+        Process child = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                CheckpointChild.class.getName(), file.toString(), "25")
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        // The child stops mid-block, 25 slugs into a 10-slug lease, and is killed without closing anything
+        Set<String> issuedBeforeCrash = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(child.getInputStream()))) {
+            for (String line = reader.readLine(); !"ready".equals(line); line = reader.readLine()) {
+                assertNotNull(line, "Child exited early");
+                issuedBeforeCrash.add(line);
+            }
+        } finally {
+            child.destroyForcibly().waitFor();
+        }
+        assertEquals(25, issuedBeforeCrash.size());
+
+        try (UniqueSlugSequence resumed = generator.compile(smallSpace).uniqueSequence(7L, 0, 1, file, 10)) {
+            assertEquals(resumed.capacity() - 30, resumed.remaining());
+            while (resumed.remaining() > 0) {
+                assertFalse(issuedBeforeCrash.contains(resumed.next()), "Slug reissued after crash");
+            }
+        }
+    }
+
+    @Test
+    void testCheckpointRejectsOtherStripeAndConcurrentUse() throws IOException {
+        Path file = tempDir.resolve("stripe.checkpoint");
+        SlugPlan plan = generator.compile(smallSpace);
+
+        try (UniqueSlugSequence sequence = plan.uniqueSequence(7L, 0, 2, file, 10)) {
+            sequence.next();
+            assertThrows(IllegalStateException.class, () -> plan.uniqueSequence(7L, 0, 2, file, 10));
+        }
+        assertThrows(IllegalStateException.class, () -> plan.uniqueSequence(7L, 1, 2, file, 10));
+        assertThrows(IllegalArgumentException.class, () -> plan.uniqueSequence(7L, 0, 2, file, 0));
+    }
+
+    @Test
+    void testCheckpointRejectsOtherKeyAndWords() throws IOException {
+        Path file = tempDir.resolve("words.checkpoint");
+        Path words = Files.writeString(tempDir.resolve("words.csv"), "red,ADJECTIVE,COLOR\ncat,NOUN,ANIMALS\n");
+        Path otherWords = Files.writeString(tempDir.resolve("other.csv"), "big,ADJECTIVE,SIZE\ndog,NOUN,ANIMALS\n");
+        SlugPlan plan = new SlugGenerator(WordDatabase.fromFile(words)).compile(2, null);
+        SlugPlan otherPlan = new SlugGenerator(WordDatabase.fromFile(otherWords)).compile(2, null);
+
+        plan.uniqueSequence(7L, 0, 1, file, 10).close();
+
+        assertEquals(plan.getCombinations(), otherPlan.getCombinations());
+        assertThrows(IllegalStateException.class, () -> otherPlan.uniqueSequence(7L, 0, 1, file, 10));
+        assertThrows(IllegalStateException.class, () -> plan.uniqueSequence(99L, 0, 1, file, 10));
+        plan.uniqueSequence(7L, 0, 1, file, 10).close();
+    }
+
+    @Test
+    void testRandomKeyCheckpointResumesWithStoredKey() throws IOException {
+        Path file = tempDir.resolve("random.checkpoint");
+        List<String> issued = new ArrayList<>();
+        try (UniqueSlugSequence sequence = generator.uniqueSequence(smallSpace, file)) {
+            for (int i = 0; i < 5; i++) {
+                issued.add(sequence.next());
+            }
+        }
+        try (UniqueSlugSequence resumed = generator.uniqueSequence(smallSpace, file)) {
+            while (resumed.remaining() > 0) {
+                assertFalse(issued.contains(resumed.next()), "Slug reissued after resuming");
+            }
+        }
+    }
+
+    @Test
+    void testCheckpointRejectsSmallCorruptFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("corrupt.checkpoint"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> generator.uniqueSequence(smallSpace, file));
+        assertEquals(8, Files.size(file));
+
+        Path empty = Files.createFile(tempDir.resolve("empty.checkpoint"));
+        generator.uniqueSequence(smallSpace, empty).close();
+        assertTrue(Files.size(empty) > 0);
+    }
+
+    /**
+     * Issues slugs from a checkpointed sequence, then waits to be killed.
+     */
+    static final class CheckpointChild {
+        public static void main(String[] args) throws Exception {
+            SlugOptions options = SlugOptions.builder()
+                    .partsOfSpeech(PartsOfSpeech.ADJECTIVE, PartsOfSpeech.NOUN)
+                    .withAdjectiveCategories(Category.COLOR)
+                    .withNounCategories(Category.ANIMALS)
+                    .build();
+            UniqueSlugSequence sequence = new SlugGenerator().compile(options)
+                    .uniqueSequence(7L, 0, 1, Path.of(args[0]), 10);
+            for (int i = 0; i < Integer.parseInt(args[1]); i++) {
+                System.out.println(sequence.next());
+            }
+            System.out.println("ready");
+            System.out.flush();
+            Thread.sleep(Long.MAX_VALUE);
+        }
+    }
+}
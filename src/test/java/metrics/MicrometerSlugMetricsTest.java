@@ -0,0 +1,52 @@
+/*
+ * MicrometerSlugMetricsTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package metrics;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.metrics.MicrometerSlugMetrics;
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MicrometerSlugMetrics class.
+ */
+class MicrometerSlugMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        SlugMetrics.uninstall();
+    }
+
+    @Test
+    void testPublishesMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SlugMetrics.install(new MicrometerSlugMetrics(registry));
+        SlugGenerator generator = new SlugGenerator();
+
+        generator.generate(3);
+        generator.generate(3);
+        generator.generate(SlugOptions.builder().format(SlugFormat.DOT).build());
+        new WordDatabase().getWordsByMask(PartsOfSpeech.NOUN, Category.ANIMALS.mask());
+
+        assertEquals(2, registry.get("slugs.generated").tag("case", "kebab").tag("words", "3").timer().count());
+        assertEquals(1, registry.get("slugs.generated").tag("case", "custom").timer().count());
+        assertEquals(1.0, registry.get("slugs.pool.lookups").tag("pos", "noun").tag("result", "miss").counter().count());
+        assertEquals(0.0, registry.get("slugs.unique.exhausted").counter().count());
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * SlugMetricsTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package metrics;
+
+import com.github.xaviercanadas.randomwordslugs.data.WordDatabase;
+import com.github.xaviercanadas.randomwordslugs.generator.Blocklist;
+import com.github.xaviercanadas.randomwordslugs.generator.IssuedSlugs;
+import com.github.xaviercanadas.randomwordslugs.generator.RandomSource;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugGenerator;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugOptions;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugPlan;
+import com.github.xaviercanadas.randomwordslugs.generator.SlugSpaceExhaustedException;
+import com.github.xaviercanadas.randomwordslugs.generator.UniqueSlugSequence;
+import com.github.xaviercanadas.randomwordslugs.metrics.SlugMetrics;
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.Category;
+import com.github.xaviercanadas.randomwordslugs.model.PartsOfSpeech;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlugMetrics class.
+ */
+class SlugMetricsTest {
+
+    private final Recorder recorder = new Recorder();
+
+    @AfterEach
+    void tearDown() {
+        SlugMetrics.uninstall();
+    }
+
+    @Test
+    void testNothingInstalledByDefault() {
+        assertNull(SlugMetrics.installed());
+    }
+
+    @Test
+    void testRecordsGenerationsByCaseAndWordCount() {
+        SlugGenerator generator = generatorWith(recorder);
+
+        generator.generate(2);
+        generator.fromKey(7L, SlugOptions.builder().format(Case.CAMEL).build());
+        generator.compile(SlugOptions.builder().format(SlugFormat.SNAKE).build()).next();
+
+        assertEquals(List.of("KEBAB/2", "CAMEL/3", "custom/3"), recorder.generations);
+    }
+
+    @Test
+    void testRecordsPoolCacheHitsAndMisses() {
+        SlugMetrics.install(recorder);
+        WordDatabase database = new WordDatabase();
+
+        database.getWordsByMask(PartsOfSpeech.NOUN, Category.ANIMALS.mask());
+        database.getWordsByMask(PartsOfSpeech.NOUN, Category.ANIMALS.mask());
+        database.getWordsByMask(PartsOfSpeech.NOUN, Category.ANIMALS.mask() | Category.FOOD.mask());
+
+        assertEquals(List.of("NOUN/miss", "NOUN/hit", "NOUN/miss"), recorder.lookups);
+    }
+
+    @Test
+    void testRecordsUniqueRetriesAndExhaustion() {
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.NOUN)
+                .withNounCategories(Category.ANIMALS)
+                .blocklist(Blocklist.of("cat"))
+                .build();
+        UniqueSlugSequence sequence = generatorWith(recorder).uniqueSequence(options);
+
+        assertThrows(SlugSpaceExhaustedException.class, () -> {
+            while (true) {
+                sequence.next();
+            }
+        });
+        assertTrue(recorder.retries > 0);
+        assertEquals(1, recorder.exhaustions);
+    }
+
+    @Test
+    void testRecordsBatchesStreamsAndUniqueSlugs() {
+        SlugGenerator generator = generatorWith(recorder);
+        SlugPlan plan = generator.compile(SlugOptions.builder().format(Case.SNAKE).build());
+
+        generator.generateBatch(4, null);
+        plan.generateBatch(new String[3], 0, 3);
+        assertEquals(2, plan.stream().limit(2).count());
+        Iterator<String> iterator = plan.iterator();
+        iterator.next();
+        UniqueSlugSequence sequence = plan.uniqueSequence(7L);
+        sequence.next();
+        sequence.next();
+
+        List<String> expected = new ArrayList<>(Collections.nCopies(4, "KEBAB/3"));
+        expected.addAll(Collections.nCopies(3 + 2 + 1 + 2, "SNAKE/3"));
+        assertEquals(expected, recorder.generations);
+    }
+
+    @Test
+    void testRecordsPoolLookupsOfGeneratorCalls() {
+        SlugGenerator generator = generatorWith(recorder);
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.ADJECTIVE, PartsOfSpeech.NOUN)
+                .withAdjectiveCategories(Category.COLOR)
+                .withNounCategories(Category.ANIMALS)
+                .build();
+
+        generator.generate(options);
+
+        assertEquals(2, recorder.lookups.size());
+        assertTrue(recorder.lookups.get(0).startsWith("ADJECTIVE/"));
+        assertTrue(recorder.lookups.get(1).startsWith("NOUN/"));
+    }
+
+    @Test
+    void testRecordsDedupRedrawsAndExhaustion() {
+        SlugOptions options = SlugOptions.builder()
+                .partsOfSpeech(PartsOfSpeech.NOUN)
+                .withNounCategories(Category.ANIMALS)
+                .issuedSlugs(IssuedSlugs.exact(1000))
+                .build();
+        SlugPlan plan = generatorWith(recorder).compile(options);
+
+        assertThrows(SlugSpaceExhaustedException.class, () -> {
+            while (true) {
+                plan.next();
+            }
+        });
+        assertTrue(recorder.retries > 0);
+        assertEquals(1, recorder.exhaustions);
+    }
+
+    @Test
+    void testGeneratorMetricsAreIndependent() {
+        Recorder other = new Recorder();
+        SlugMetrics.install(other);
+
+        generatorWith(recorder).generate(2);
+        new SlugGenerator().generate(3);
+
+        assertEquals(List.of("KEBAB/2"), recorder.generations);
+        assertEquals(List.of("KEBAB/3"), other.generations);
+    }
+
+    @Test
+    void testInstalledDefaultIsUsedWithoutOwnMetrics() {
+        SlugMetrics.install(recorder);
+
+        new SlugGenerator().generate(2);
+
+        assertEquals(List.of("KEBAB/2"), recorder.generations);
+    }
+
+    @Test
+    void testUninstallStopsRecording() {
+        SlugMetrics.install(recorder);
+        SlugMetrics.uninstall();
+
+        new SlugGenerator().generate();
+
+        assertTrue(recorder.generations.isEmpty());
+    }
+
+    private static SlugGenerator generatorWith(SlugMetrics metrics) {
+        return new SlugGenerator(WordDatabase::getDefault, RandomSource.threadLocal(), metrics);
+    }
+
+    private static final class Recorder implements SlugMetrics {
+        final List<String> generations = new ArrayList<>();
+        final List<String> lookups = new ArrayList<>();
+        int retries;
+        int exhaustions;
+
+        @Override
+        public void recordGeneration(Case format, int numberOfWords, long durationNanos) {
+            assertTrue(durationNanos >= 0);
+            generations.add((format != null ? format.name() : "custom") + "/" + numberOfWords);
+        }
+
+        @Override
+        public void recordPoolLookup(PartsOfSpeech partOfSpeech, boolean hit) {
+            lookups.add(partOfSpeech + "/" + (hit ? "hit" : "miss"));
+        }
+
+        @Override
+        public void recordUniqueRetries(int retries) {
+            this.retries += retries;
+        }
+
+        @Override
+        public void recordExhaustion(long capacity) {
+            exhaustions++;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SlugFormatTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package model;
+
+import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.SlugFormat;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+import com.github.xaviercanadas.randomwordslugs.model.WordStyle;
+import com.github.xaviercanadas.randomwordslugs.util.Formatter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlugFormat class.
+ */
+class SlugFormatTest {
+    private static final List<String> WORDS = List.of("happy", "Little", "CAT");
+
+    @Test
+    void testBuiltInFormats() {
+        assertEquals("happy-little-cat", Formatter.format(WORDS, SlugFormat.KEBAB));
+        assertEquals("happyLittleCat", Formatter.format(WORDS, SlugFormat.CAMEL));
+        assertEquals("HappyLittleCat", Formatter.format(WORDS, SlugFormat.PASCAL));
+        assertEquals("happy_little_cat", Formatter.format(WORDS, SlugFormat.SNAKE));
+        assertEquals("HAPPY_LITTLE_CAT", Formatter.format(WORDS, SlugFormat.SCREAMING_SNAKE));
+        assertEquals("happy.little.cat", Formatter.format(WORDS, SlugFormat.DOT));
+        assertEquals("Happy Little Cat", Formatter.format(WORDS, SlugFormat.TITLE));
+        assertEquals("happy little cat", Formatter.format(WORDS, SlugFormat.LOWER));
+        assertEquals("Happy little cat", Formatter.format(WORDS, SlugFormat.SENTENCE));
+    }
+
+    @Test
+    void testCustomSeparator() {
+        assertEquals("happy/little/cat", Formatter.format(WORDS, SlugFormat.separatedBy("/")));
+        assertEquals("HAPPY::Little::Cat",
+                Formatter.format(WORDS, SlugFormat.of("::", WordStyle.UPPER, WordStyle.CAPITALIZED)));
+        assertEquals(2, SlugFormat.of("::", WordStyle.LOWER, WordStyle.LOWER).separatorLength());
+    }
+
+    @Test
+    void testCaseMapsToFormat() {
+        for (Case caseStyle : Case.values()) {
+            assertNotNull(caseStyle.toFormat());
+            assertEquals(Formatter.format(WORDS, caseStyle.toFormat()), Formatter.format(WORDS, caseStyle));
+        }
+        assertSame(SlugFormat.SCREAMING_SNAKE, Case.SCREAMING_SNAKE.toFormat());
+    }
+
+    @Test
+    void testPrecomputedFormsMatchInlineConversion() {
+        for (Case caseStyle : Case.values()) {
+            SlugFormat format = caseStyle.toFormat();
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < WORDS.size(); i++) {
+                format.appendWord(builder, WordForms.of(WORDS.get(i)), i);
+            }
+            assertEquals(Formatter.format(WORDS, format), builder.toString());
+        }
+    }
+
+    @Test
+    void testAppendToAppendable() throws IOException {
+        StringWriter writer = new StringWriter();
+        for (int i = 0; i < WORDS.size(); i++) {
+            SlugFormat.SNAKE.appendWord(writer, WordForms.of(WORDS.get(i)), i);
+        }
+        assertEquals("happy_little_cat", writer.toString());
+    }
+
+    @Test
+    void testCustomImplementation() throws IOException {
+        SlugFormat reversed = (target, word, position) -> target.insert(0, word.getLower());
+        StringWriter writer = new StringWriter();
+        reversed.appendWord(writer, WordForms.of("cat"), 0);
+
+        assertEquals("happylittlecat", Formatter.format(List.of("cat", "little", "happy"), reversed));
+        assertEquals("cat", writer.toString());
+    }
+
+
+    @Test
+    void testWriteBytesMatchesAppend() {
+        WordForms word = WordForms.of("Café");
+        for (SlugFormat format : List.of(SlugFormat.KEBAB, SlugFormat.PASCAL, SlugFormat.SCREAMING_SNAKE,
+                SlugFormat.separatedBy(" · "))) {
+            StringBuilder text = new StringBuilder();
+            format.appendWord(text, word, 1);
+            byte[] expected = text.toString().getBytes(StandardCharsets.UTF_8);
+
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+            byte[] array = new byte[32];
+            assertEquals(expected.length, format.encodedLength(word, 1));
+            assertEquals(expected.length, format.writeWord(buffer, word, 1));
+            assertEquals(expected.length, format.writeWord(array, 2, word, 1));
+            assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+            assertArrayEquals(expected, Arrays.copyOfRange(array, 2, 2 + expected.length));
+        }
+    }
+
+    @Test
+    void testCustomImplementationWritesBytes() {
+        SlugFormat dotted = (target, word, position) -> target.append(position == 0 ? "" : ".").append(word.getUpper());
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        dotted.writeWord(buffer, WordForms.of("cat"), 0);
+        dotted.writeWord(buffer, WordForms.of("dog"), 1);
+
+        assertEquals("CAT.DOG", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+}
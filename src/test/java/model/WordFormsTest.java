@@ -0,0 +1,56 @@
+/*
+ * WordFormsTest.java
+ * RandomWordGenerator
+ *
+ * Created by Xavier Cañadas on 16/10/2026
+ * Copyright (c) 2026. All rights reserved.
+ */
+
+package model;
+
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WordForms class.
+ */
+class WordFormsTest {
+
+    @Test
+    void testFormsOfLowercaseWord() {
+        WordForms forms = WordForms.of("happy");
+
+        assertEquals("happy", forms.getWord());
+        assertEquals("happy", forms.getLower());
+        assertEquals("Happy", forms.getCapitalized());
+        assertEquals("HAPPY", forms.getUpper());
+        assertEquals(5, forms.getMaxLength());
+        assertSame(forms.getWord(), forms.getLower());
+    }
+
+    @Test
+    void testFormsOfMixedCaseWord() {
+        WordForms forms = WordForms.of("mcDONALD");
+
+        assertEquals("mcDONALD", forms.getWord());
+        assertEquals("mcdonald", forms.getLower());
+        assertEquals("Mcdonald", forms.getCapitalized());
+        assertEquals("MCDONALD", forms.getUpper());
+    }
+
+    @Test
+    void testFormsOfEmptyWord() {
+        WordForms forms = WordForms.of("");
+
+        assertEquals("", forms.getCapitalized());
+        assertEquals(0, forms.getMaxLength());
+    }
+
+    @Test
+    void testNullWordThrows() {
+        assertThrows(NullPointerException.class, () -> WordForms.of(null));
+    }
+}
@@ -136,4 +136,27 @@ class WordTest {
         assertTrue(result.contains("cat"));
         assertTrue(result.contains("ANIMALS"));
     }
-}
\ No newline at end of file
+
+
+    @Test
+    void testCategoryMaskMatchesCategories() {
+        Word word = new Word("apple", Category.FOOD, Category.COLOR);
+
+        assertEquals(Category.FOOD.mask() | Category.COLOR.mask(), word.getCategoryMask());
+        assertTrue(word.hasAnyCategory(Category.COLOR.mask()));
+        assertTrue(word.hasAnyCategory(0L));
+        assertFalse(word.hasAnyCategory(Category.ANIMALS.mask() | Category.SPORTS.mask()));
+    }
+
+
+    @Test
+    void testWeight() {
+        Word word = new Word("cat", 2.5, Category.ANIMALS);
+
+        assertEquals(2.5, word.getWeight());
+        assertEquals(Word.DEFAULT_WEIGHT, new Word("cat", Category.ANIMALS).getWeight());
+        assertNotEquals(new Word("cat", Category.ANIMALS), word);
+        assertThrows(IllegalArgumentException.class, () -> new Word("cat", 0, Category.ANIMALS));
+        assertThrows(IllegalArgumentException.class, () -> new Word("cat", Double.NaN, Category.ANIMALS));
+    }
+}
@@ -10,6 +10,7 @@ package util;
 
 import com.github.xaviercanadas.randomwordslugs.util.Formatter;
 import com.github.xaviercanadas.randomwordslugs.model.Case;
+import com.github.xaviercanadas.randomwordslugs.model.WordForms;
 
 import org.junit.jupiter.api.Test;
 
@@ -142,5 +143,29 @@ public class FormatterTest {
             assertEquals("Awesome java project", Formatter.format(words, Case.SENTENCE));
         }
 
+        @Test
+        void testAppendWordAppendsToExistingContent() {
+            StringBuilder builder = new StringBuilder("id:");
+
+            Formatter.appendWord(builder, "HAPPY", 0, Case.CAMEL);
+            Formatter.appendWord(builder, "little", 1, Case.CAMEL);
+            Formatter.appendWord(builder, "CaT", 2, Case.CAMEL);
+
+            assertEquals("id:happyLittleCat", builder.toString());
+        }
+
+        @Test
+        void testPrecomputedFormsMatchInlineConversion() {
+            List<String> words = Arrays.asList("HAPPY", "little", "CaT");
+
+            for (Case caseStyle : Case.values()) {
+                StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < words.size(); i++) {
+                    Formatter.appendWord(builder, WordForms.of(words.get(i)), i, caseStyle);
+                }
+                assertEquals(Formatter.format(words, caseStyle), builder.toString());
+            }
+        }
+
 
 }